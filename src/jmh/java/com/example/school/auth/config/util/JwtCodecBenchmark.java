@@ -0,0 +1,73 @@
+package com.example.school.auth.config.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 검증 처리량: 키/파서를 한 번만 만드는 JwtCodec 과 호출마다 새로 만드는 이전 방식 비교
+// 이전 방식은 별도 임의 키로 서명한 토큰을 쓴다 (서명/검증 비용은 같은 HS256)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtCodecBenchmark {
+    private static final int TOKENS = 1_000;
+    private static final long EXPIRE_MILLIS = 60 * 60 * 1000L;
+
+    private JwtCodec jwtCodec;
+    private String[] codecTokens;
+    private byte[] rebuiltKey;
+    private String[] rebuiltTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtCodec = new JwtCodec();
+        SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        rebuiltKey = key.getEncoded();
+        codecTokens = new String[TOKENS];
+        rebuiltTokens = new String[TOKENS];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < TOKENS; i++) {
+            Claims claims = Jwts.claims().setSubject("user" + i + "@example.com");
+            claims.put("memberId", (long) i);
+            codecTokens[i] = jwtCodec.encode(claims, EXPIRE_MILLIS);
+            rebuiltTokens[i] = Jwts.builder()
+                    .setClaims(claims)
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(new Date(now + EXPIRE_MILLIS))
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public Claims codec() {
+        return jwtCodec.decode(codecTokens[nextIndex()]);
+    }
+
+    @Benchmark
+    public Claims rebuildParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(rebuiltKey))
+                .build()
+                .parseClaimsJws(rebuiltTokens[nextIndex()])
+                .getBody();
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % TOKENS;
+        return next;
+    }
+}
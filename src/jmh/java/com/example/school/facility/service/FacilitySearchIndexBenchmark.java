@@ -0,0 +1,72 @@
+package com.example.school.facility.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 시설물 검색: 역색인 검색과 '%keyword%' 이름 전체 순회 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacilitySearchIndexBenchmark {
+    private static final String[] ROOMS = {"체육관", "세미나실", "강의실", "스터디룸", "테니스장", "풋살장", "음악실", "회의실", "실험실", "열람실",
+            "농구장", "배드민턴장", "탁구장", "수영장", "헬스장", "연습실", "소극장", "전시실", "컴퓨터실", "공연장"};
+    private static final String[] PREFIXES = {"제1", "제2", "대", "소", "중", "공용", "야외", "실내", "다목적", "학생"};
+    private static final String[] BUILDINGS = {"공학관", "인문관", "자연과학관", "중앙도서관", "학생회관", "경영관", "의학관", "미술관",
+            "음악관", "법학관", "사범관", "생활관", "국제관", "산학협력관", "체육부", "본관"};
+    private static final String[] ITEMS = {"빔프로젝터", "화이트보드", "농구공", "피아노", "마이크", "노트북", "음향장비", "라켓", "탁구대", "이젤"};
+
+    @Param({"100000"})
+    private int facilities;
+
+    @Param({"배드민턴장", "실내 수영장", "다목적 소극장", "산학협력관", "탁구대", "세미나"})
+    private String keyword;
+
+    private List<FacilitySearchIndex.Document> documents;
+    private FacilitySearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        documents = new ArrayList<>(facilities);
+        for (long id = 1; id <= facilities; id++) {
+            documents.add(new FacilitySearchIndex.Document(id,
+                    PREFIXES[random.nextInt(PREFIXES.length)] + " " + ROOMS[random.nextInt(ROOMS.length)] + " " + id % 500,
+                    null,
+                    ROOMS[random.nextInt(ROOMS.length)] + " 대여",
+                    ITEMS[random.nextInt(ITEMS.length)],
+                    random.nextInt(10) + "층",
+                    BUILDINGS[random.nextInt(BUILDINGS.length)]));
+        }
+        index = new FacilitySearchIndex();
+        documents.forEach(index::put);
+    }
+
+    @Benchmark
+    public List<Long> index() {
+        return index.search(keyword);
+    }
+
+    @Benchmark
+    public List<Long> likeScan() {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        List<Long> ids = new ArrayList<>();
+        for (FacilitySearchIndex.Document document : documents) {
+            if (document.getName().toLowerCase(Locale.ROOT).contains(needle)) {
+                ids.add(document.getId());
+            }
+        }
+        return ids;
+    }
+}
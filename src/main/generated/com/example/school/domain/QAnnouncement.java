@@ -26,6 +26,8 @@ public class QAnnouncement extends EntityPathBase<Announcement> {
 
     public final StringPath content = createString("content");
 
+    public final StringPath contentHash = createString("contentHash");
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
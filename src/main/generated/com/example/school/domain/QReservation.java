@@ -35,6 +35,8 @@ public class QReservation extends EntityPathBase<Reservation> {
 
     public final NumberPath<Integer> duration = createNumber("duration", Integer.class);
 
+    public final DateTimePath<java.time.LocalDateTime> endAt = createDateTime("endAt", java.time.LocalDateTime.class);
+
     public final NumberPath<Integer> end_time = createNumber("end_time", Integer.class);
 
     public final QFacility facility;
@@ -47,6 +49,10 @@ public class QReservation extends EntityPathBase<Reservation> {
 
     public final StringPath month = createString("month");
 
+    public final DatePath<java.time.LocalDate> reservationDate = createDate("reservationDate", java.time.LocalDate.class);
+
+    public final DateTimePath<java.time.LocalDateTime> startAt = createDateTime("startAt", java.time.LocalDateTime.class);
+
     public final NumberPath<Integer> start_time = createNumber("start_time", Integer.class);
 
     //inherited
@@ -5,11 +5,16 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Map;
+
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableScheduling
 public class SchoolApplication {
 	public static void main(String[] args) {
-		SpringApplication.run(SchoolApplication.class, args);
+		SpringApplication application = new SpringApplication(SchoolApplication.class);
+		// 요청 내내 커넥션을 잡고 있지 않도록 (비밀번호 해시 등 느린 작업을 트랜잭션 밖에서 실행하는 전제, 설정 파일에서 덮어쓸 수 있음)
+		application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+		application.run(args);
 	}
 }
\ No newline at end of file
@@ -3,11 +3,11 @@ package com.example.school.announcement.controller;
 import com.example.school.announcement.dto.AnnouncementRes;
 import com.example.school.announcement.service.AnnouncementService;
 import com.example.school.apiPayload.ApiResponse;
-import com.example.school.domain.Member;
+import com.example.school.auth.config.AuthMember;
 import com.example.school.validation.annotation.CheckAnnouncementType;
 import com.example.school.validation.annotation.CheckPage;
+import com.example.school.validation.annotation.CheckSize;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 
@@ -17,10 +17,8 @@ public class AnnouncementController {
     private final AnnouncementService announcementService;
 
     @GetMapping("/sample")
-    public ApiResponse<AnnouncementRes.Samples> getSamples(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        AnnouncementRes.Samples res = announcementService.getSamples(member.getId());
+    public ApiResponse<AnnouncementRes.Samples> getSamples(AuthMember authMember){
+        AnnouncementRes.Samples res = announcementService.getSamples(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
@@ -29,11 +27,22 @@ public class AnnouncementController {
     public ApiResponse<AnnouncementRes.ListDto> getList(
             @RequestParam(name = "page") @CheckPage Integer page,
             @RequestParam(name = "type",required = false) @CheckAnnouncementType String type,
-            Authentication auth
+            AuthMember authMember
     ){
-        Member member = (Member)auth.getPrincipal();
+        AnnouncementRes.ListDto res = announcementService.getList(authMember.getSchoolId(),type, page);
+
+        return ApiResponse.onSuccess(res);
+    }
 
-        AnnouncementRes.ListDto res = announcementService.getList(member.getId(),type, page);
+    // 커서 방식 (after 를 비우면 첫 페이지, 응답의 nextCursor 를 다음 요청의 after 로)
+    @GetMapping("/list/cursor")
+    public ApiResponse<AnnouncementRes.ListDto> getListByCursor(
+            @RequestParam(name = "type",required = false) @CheckAnnouncementType String type,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "15") @CheckSize Integer size,
+            AuthMember authMember
+    ){
+        AnnouncementRes.ListDto res = announcementService.getList(authMember.getSchoolId(), type, after, size);
 
         return ApiResponse.onSuccess(res);
     }
@@ -1,5 +1,6 @@
 package com.example.school.announcement.dto;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.Announcement;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,6 +20,17 @@ public class AnnouncementRes {
         Long totalElements;
         Boolean isFirst;
         Boolean isLast;
+        String nextCursor;
+        Boolean hasNext;
+
+        // 커서 방식 (size+1건 조회 결과)
+        public ListDto(List<Announcement> entities, int size){
+            list = entities.stream().limit(size).map(entity->new OneInList(entity.getId(), entity.getTitle(), entity.getCreatedAt().toLocalDate()))
+                    .collect(Collectors.toList());
+            listSize = list.size();
+            nextCursor = Cursor.next(entities, size, Announcement::getCreatedAt, Announcement::getId);
+            hasNext = nextCursor != null;
+        }
 
         public ListDto(Page<Announcement> entities){
             list = entities.stream().map(entity->new OneInList(entity.getId(), entity.getTitle(), entity.getCreatedAt().toLocalDate()))
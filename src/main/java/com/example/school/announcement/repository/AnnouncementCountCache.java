@@ -0,0 +1,60 @@
+package com.example.school.announcement.repository;
+
+import com.example.school.domain.enums.AnnouncementType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+// 학교/유형별 공지사항 개수 캐시
+// 공지사항은 크롤러만 추가하므로 크롤러가 저장한 뒤 해당 학교의 캐시를 지운다.
+// 키에는 학교별 세대(AnnouncementCount:{schoolId}:gen)를 넣어, 지우기 전에 세기 시작한 조회가 지운 뒤에 써도 읽히지 않게 한다.
+@Repository
+@RequiredArgsConstructor
+public class AnnouncementCountCache {
+    private static final String KEY_PREFIX = "AnnouncementCount:";
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final String ALL_TYPES = "ALL";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long get(Long schoolId, AnnouncementType type, LongSupplier counter) {
+        String key = key(schoolId, type, generation(schoolId));
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+        long count = counter.getAsLong();
+        stringRedisTemplate.opsForValue().set(key, String.valueOf(count), TTL);
+        return count;
+    }
+
+    // 세대를 올려 이후 조회가 새 키를 쓰게 하고, 이전 세대 키는 바로 지운다
+    public void evict(Long schoolId) {
+        long generation = stringRedisTemplate.opsForValue().increment(generationKey(schoolId));
+        List<String> keys = new ArrayList<>();
+        keys.add(key(schoolId, null, generation - 1));
+        for (AnnouncementType type : AnnouncementType.values()) {
+            keys.add(key(schoolId, type, generation - 1));
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    private long generation(Long schoolId) {
+        String generation = stringRedisTemplate.opsForValue().get(generationKey(schoolId));
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    private String key(Long schoolId, AnnouncementType type, long generation) {
+        return KEY_PREFIX + schoolId + ":" + generation + ":" + (type != null ? type.name() : ALL_TYPES);
+    }
+
+    private String generationKey(Long schoolId) {
+        return KEY_PREFIX + schoolId + GENERATION_SUFFIX;
+    }
+}
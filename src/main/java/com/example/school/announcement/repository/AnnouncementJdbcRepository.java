@@ -0,0 +1,90 @@
+package com.example.school.announcement.repository;
+
+import com.example.school.domain.Announcement;
+import com.example.school.domain.enums.AnnouncementType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 공지사항 수집용 집합 단위 JDBC 쿼리
+@Repository
+@RequiredArgsConstructor
+public class AnnouncementJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 이미 저장된 해시 (한 번의 IN 쿼리)
+    public Set<String> findExistingHashes(Long schoolId, Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return new HashSet<>();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("schoolId", schoolId)
+                .addValue("hashes", hashes);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select content_hash from announcement where school_id = :schoolId and content_hash in (:hashes)",
+                params, String.class));
+    }
+
+    // 해시 확인 뒤 다른 수집이 먼저 넣은 행만 (school_id, content_hash) 유니크 인덱스로 건너뛴다 (그 밖의 오류는 그대로 던짐)
+    // 배치 결과 건수는 드라이버 설정에 따라 SUCCESS_NO_INFO(-2)나 중복 건까지 1로 올 수 있어 저장 건수로 쓰지 않는다
+    public void insertAll(Long schoolId, List<Announcement> announcements) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "insert into announcement (title, content, type, school_id, content_hash, created_at, updated_at) " +
+                        "values (?, ?, ?, ?, ?, ?, ?) on duplicate key update id = id",
+                announcements, announcements.size(),
+                (ps, announcement) -> {
+                    ps.setString(1, announcement.getTitle());
+                    ps.setString(2, announcement.getContent());
+                    ps.setString(3, announcement.getType().name());
+                    ps.setLong(4, schoolId);
+                    ps.setString(5, announcement.getContentHash());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+    // 해시가 없는 기존 행 (해시 계산용 id, title, type, content)
+    public List<Announcement> findUnhashed(Long schoolId, long afterId, int limit) {
+        return jdbcTemplate.query(
+                "select id, title, type, content from announcement where school_id = ? and content_hash is null and id > ? order by id limit ?",
+                (rs, rowNum) -> Announcement.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .type(rs.getString("type") != null ? AnnouncementType.valueOf(rs.getString("type")) : null)
+                        .content(rs.getString("content"))
+                        .build(),
+                schoolId, afterId, limit);
+    }
+
+    // 중복이 아닌 것으로 확인된 행만 넘어온다
+    public void updateHashes(List<Announcement> announcements) {
+        jdbcTemplate.batchUpdate(
+                "update announcement set content_hash = ? where id = ?",
+                announcements, announcements.size(),
+                (ps, announcement) -> {
+                    ps.setString(1, announcement.getContentHash());
+                    ps.setLong(2, announcement.getId());
+                });
+    }
+
+    // 해시 컬럼 추가 전부터 있던 중복 행은 dup:{id} 로 표시해 다시 조회되지 않게 한다
+    public void markDuplicates(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+                "update announcement set content_hash = concat('dup:', id) where id in (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+}
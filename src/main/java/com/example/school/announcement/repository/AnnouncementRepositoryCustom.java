@@ -6,7 +6,13 @@ import com.example.school.domain.enums.AnnouncementType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 public interface AnnouncementRepositoryCustom {
     Page<Announcement> findByType(School school, AnnouncementType type, Pageable pageable);
+
+    // 커서 (createdAt, id) 다음 공지사항, 최신순
+    List<Announcement> findByTypeAfter(School school, AnnouncementType type, LocalDateTime cursorAt, Long cursorId, int limit);
 }
@@ -7,9 +7,10 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.example.school.domain.QAnnouncement.announcement;
@@ -18,6 +19,7 @@ import static com.example.school.domain.QAnnouncement.announcement;
 public class AnnouncementRepositoryImpl implements AnnouncementRepositoryCustom{
 
     private final JPAQueryFactory queryFactory;
+    private final AnnouncementCountCache announcementCountCache;
 
     @Override
     public Page<Announcement> findByType(School school, AnnouncementType type, Pageable pageable) {
@@ -27,10 +29,19 @@ public class AnnouncementRepositoryImpl implements AnnouncementRepositoryCustom{
                         typeEq(type),
                         schoolEq(school)
                 )
-                .orderBy(announcement.createdAt.desc())
+                .orderBy(announcement.createdAt.desc(), announcement.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
                 .fetch();
 
-        long totalCount = queryFactory
+        // 첫/마지막 페이지처럼 개수를 알 수 있으면 count 쿼리를 생략하고, 그 외에는 캐시된 개수 사용
+        return PageableExecutionUtils.getPage(list, pageable, () -> school != null
+                ? announcementCountCache.get(school.getId(), type, () -> count(school, type))
+                : count(school, type));
+    }
+
+    private long count(School school, AnnouncementType type) {
+        Long totalCount = queryFactory
                 .select(announcement.count())
                 .from(announcement)
                 .where(
@@ -38,8 +49,22 @@ public class AnnouncementRepositoryImpl implements AnnouncementRepositoryCustom{
                         schoolEq(school)
                 )
                 .fetchOne();
+        return totalCount != null ? totalCount : 0L;
+    }
 
-        return new PageImpl<>(list, pageable, totalCount);
+    @Override
+    public List<Announcement> findByTypeAfter(School school, AnnouncementType type, LocalDateTime cursorAt, Long cursorId, int limit) {
+        return queryFactory
+                .selectFrom(announcement)
+                .where(
+                        typeEq(type),
+                        schoolEq(school),
+                        announcement.createdAt.lt(cursorAt)
+                                .or(announcement.createdAt.eq(cursorAt).and(announcement.id.lt(cursorId)))
+                )
+                .orderBy(announcement.createdAt.desc(), announcement.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     BooleanExpression typeEq(AnnouncementType type){
@@ -0,0 +1,198 @@
+package com.example.school.announcement.service;
+
+import com.example.school.announcement.repository.AnnouncementCountCache;
+import com.example.school.announcement.repository.AnnouncementJdbcRepository;
+import com.example.school.domain.Announcement;
+import com.example.school.domain.School;
+import com.example.school.domain.enums.AnnouncementType;
+import com.example.school.facility.dto.RestTemplateRes;
+import com.example.school.facility.repository.SchoolRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 크롤러(flask-server)에서 학교별 공지사항을 수집한다.
+// 응답을 스트림으로 읽어 BATCH_SIZE 단위로 처리하고,
+// 내용 해시를 한 번의 IN 쿼리로 중복 확인한 뒤 새 공지사항만 JDBC 배치로 저장한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnnouncementIngestService {
+    private static final int BATCH_SIZE = 500;
+
+    private final SchoolRepository schoolRepository;
+    private final AnnouncementJdbcRepository announcementJdbcRepository;
+    private final AnnouncementCountCache announcementCountCache;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Value("${flask-server}")
+    private String address;
+
+    @Value("${announcement.crawler.schools:울산대학교}")
+    private List<String> schoolNames;
+
+    @Scheduled(cron = "0 50 23 * * *")
+    public void ingestAll() {
+        for (String schoolName : schoolNames) {
+            School school = schoolRepository.findByName(schoolName);
+            if (school == null) {
+                log.warn("공지사항 수집 - 학교 {} 없음", schoolName);
+                continue;
+            }
+            try {
+                ingest(school);
+            } catch (RestClientException e) {
+                log.warn("공지사항 수집 실패 - {}", schoolName, e);
+            }
+        }
+    }
+
+    public IngestResult ingest(School school) {
+        long startedAt = System.currentTimeMillis();
+        backfillHashes(school.getId());
+
+        IngestResult result = new IngestResult();
+        Set<String> seen = new HashSet<>();
+        fetch(school.getName(), chunk -> saveNew(school.getId(), chunk, seen, result));
+
+        if (result.inserted > 0) {
+            announcementCountCache.evict(school.getId());
+        }
+        log.info("공지사항 수집 - {}: 수신 {}, 중복 {}, 오류 {}, 저장 {} ({}ms)", school.getName(),
+                result.fetched, result.duplicated, result.invalid, result.inserted, System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    // result.list 배열을 한 건씩 읽어 BATCH_SIZE 단위로 넘긴다
+    private void fetch(String schoolName, Consumer<List<RestTemplateRes.AnnouncementDetail>> handler) {
+        restTemplate.execute(address + "/api/v1/announcement/{school}", HttpMethod.GET, null, response -> {
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                while (parser.nextToken() != null) {
+                    if (parser.currentToken() != JsonToken.FIELD_NAME || !"list".equals(parser.getCurrentName())) {
+                        continue;
+                    }
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        break;
+                    }
+                    List<RestTemplateRes.AnnouncementDetail> chunk = new ArrayList<>(BATCH_SIZE);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        chunk.add(objectMapper.readValue(parser, RestTemplateRes.AnnouncementDetail.class));
+                        if (chunk.size() == BATCH_SIZE) {
+                            handler.accept(chunk);
+                            chunk = new ArrayList<>(BATCH_SIZE);
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        handler.accept(chunk);
+                    }
+                    break;
+                }
+            }
+            return null;
+        }, schoolName);
+    }
+
+    private void saveNew(Long schoolId, List<RestTemplateRes.AnnouncementDetail> chunk, Set<String> seen, IngestResult result) {
+        result.fetched += chunk.size();
+
+        Map<String, Announcement> candidates = new LinkedHashMap<>();
+        for (RestTemplateRes.AnnouncementDetail detail : chunk) {
+            AnnouncementType type;
+            try {
+                type = AnnouncementType.valueOf(detail.getType());
+            } catch (RuntimeException e) {
+                result.invalid++;
+                continue;
+            }
+            String hash = hash(detail.getTitle(), type, detail.getContent());
+            if (!seen.add(hash)) {
+                result.duplicated++;
+                continue;
+            }
+            candidates.put(hash, Announcement.builder()
+                    .title(detail.getTitle())
+                    .content(detail.getContent())
+                    .type(type)
+                    .contentHash(hash)
+                    .build());
+        }
+
+        Set<String> existing = announcementJdbcRepository.findExistingHashes(schoolId, candidates.keySet());
+        result.duplicated += existing.size();
+        candidates.keySet().removeAll(existing);
+        // 해시로 걸러낸 뒤 남은 건은 저장된다 (그 사이 다른 수집이 먼저 넣었어도 공지사항 수가 바뀐 것은 같음)
+        if (!candidates.isEmpty()) {
+            announcementJdbcRepository.insertAll(schoolId, new ArrayList<>(candidates.values()));
+            result.inserted += candidates.size();
+        }
+    }
+
+    // 해시 컬럼 추가 전에 저장된 공지사항에 해시를 채운다
+    // 이미 같은 해시가 있는 행(기존 중복 데이터)은 유니크 인덱스에 걸리므로 따로 표시한다
+    private void backfillHashes(Long schoolId) {
+        long lastId = 0L;
+        int duplicated = 0;
+        List<Announcement> rows;
+        while (!(rows = announcementJdbcRepository.findUnhashed(schoolId, lastId, BATCH_SIZE)).isEmpty()) {
+            Map<String, Announcement> hashed = new LinkedHashMap<>();
+            List<Long> duplicateIds = new ArrayList<>();
+            for (Announcement row : rows) {
+                String hash = hash(row.getTitle(), row.getType(), row.getContent());
+                if (hashed.containsKey(hash)) {
+                    duplicateIds.add(row.getId());
+                    continue;
+                }
+                hashed.put(hash, Announcement.builder().id(row.getId()).contentHash(hash).build());
+            }
+            for (String existing : announcementJdbcRepository.findExistingHashes(schoolId, hashed.keySet())) {
+                duplicateIds.add(hashed.remove(existing).getId());
+            }
+
+            announcementJdbcRepository.updateHashes(new ArrayList<>(hashed.values()));
+            announcementJdbcRepository.markDuplicates(duplicateIds);
+            duplicated += duplicateIds.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+        if (duplicated > 0) {
+            log.info("공지사항 해시 채우기 - 학교 ID {}: 중복 {}건 표시", schoolId, duplicated);
+        }
+    }
+
+    static String hash(String title, AnnouncementType type, String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = title + "\n" + (type != null ? type.name() : "") + "\n" + content;
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class IngestResult {
+        int fetched;
+        int duplicated;
+        int invalid;
+        int inserted;
+    }
+}
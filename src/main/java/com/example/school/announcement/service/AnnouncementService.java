@@ -2,27 +2,19 @@ package com.example.school.announcement.service;
 
 import com.example.school.announcement.dto.AnnouncementRes;
 import com.example.school.announcement.repository.AnnouncementRepository;
+import com.example.school.apiPayload.Cursor;
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
 import com.example.school.domain.Announcement;
-import com.example.school.domain.Member;
 import com.example.school.domain.School;
 import com.example.school.domain.enums.AnnouncementType;
-import com.example.school.facility.dto.RestTemplateRes;
 import com.example.school.facility.repository.SchoolRepository;
-import com.example.school.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,17 +23,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnnouncementService {
     private final AnnouncementRepository announcementRepository;
-    private final UserRepository userRepository;
     private final SchoolRepository schoolRepository;
 
-
-    @Value("${flask-server}")
-    private String address;
-
-    public AnnouncementRes.Samples getSamples(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()-> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-        School school = member.getSchool();
+    public AnnouncementRes.Samples getSamples(Long schoolId) {
+        School school = schoolRepository.getReferenceById(schoolId);
 
         List<Announcement> entities = announcementRepository.findBySchoolOrderByCreatedAtDesc(
                 school,
@@ -62,42 +47,27 @@ public class AnnouncementService {
         return new AnnouncementRes.Detail(entity);
     }
 
-    public AnnouncementRes.ListDto getList(Long id, String type, Integer page) {
-        Member member = userRepository.findById(id)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
+    public AnnouncementRes.ListDto getList(Long schoolId, String type, Integer page) {
         AnnouncementType announcementType = null;
         if(StringUtils.hasText(type)){
             announcementType = AnnouncementType.valueOf(type);
         }
 
-        Page<Announcement> entities = announcementRepository.findByType(member.getSchool(), announcementType, PageRequest.of(page-1,15));
+        Page<Announcement> entities = announcementRepository.findByType(schoolRepository.getReferenceById(schoolId), announcementType, PageRequest.of(page-1,15));
 
         return new AnnouncementRes.ListDto(entities);
     }
 
-    @Scheduled(cron = "0 50 23 * * *")
-    public void getAnnouncement(){
-        String uri = address + "/api/v1/announcement/울산대학교";
-        School school = schoolRepository.findByName("울산대학교");
-
-        RestTemplate restTemplate = new RestTemplate();
-
-        ResponseEntity<RestTemplateRes.Common<RestTemplateRes.AnnouncementList>> res =
-                restTemplate.exchange(uri, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-
-        RestTemplateRes.AnnouncementList list = res.getBody().getResult();
-        list.getList().forEach(object->{
-            Boolean isPresent = announcementRepository.findByTitle(object.getTitle()).isPresent();
-            if(isPresent) return;
-            announcementRepository.save(Announcement.builder()
-                    .title(object.getTitle())
-                    .content(object.getContent())
-                    .type(AnnouncementType.valueOf(object.getType()))
-                    .school(school)
-                    .build()
-            );
-        });
+    public AnnouncementRes.ListDto getList(Long schoolId, String type, String after, int size) {
+        AnnouncementType announcementType = null;
+        if(StringUtils.hasText(type)){
+            announcementType = AnnouncementType.valueOf(type);
+        }
+        Cursor cursor = Cursor.decodeOrFirst(after);
+
+        List<Announcement> entities = announcementRepository.findByTypeAfter(schoolRepository.getReferenceById(schoolId), announcementType, cursor.getTime(), cursor.getId(), size + 1);
+
+        return new AnnouncementRes.ListDto(entities, size);
     }
 
 }
@@ -0,0 +1,56 @@
+package com.example.school.apiPayload;
+
+import com.example.school.apiPayload.status.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지네이션 커서 (정렬 기준 시각 + id)
+// 클라이언트에는 불투명한 문자열로 전달한다.
+@Getter @AllArgsConstructor
+public class Cursor {
+    // 첫 페이지 조회용 (모든 행보다 뒤)
+    public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private LocalDateTime time;
+    private Long id;
+
+    public static String encode(LocalDateTime time, Long id) {
+        String raw = time.toEpochSecond(ZoneOffset.UTC) + "_" + time.getNano() + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("_");
+            LocalDateTime time = LocalDateTime.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+            return new Cursor(time, Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    // 빈 값이면 첫 페이지
+    public static Cursor decodeOrFirst(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST;
+        }
+        return decode(cursor);
+    }
+
+    // size+1건 조회 결과로 다음 커서 계산 (다음 페이지가 없으면 null)
+    public static <T> String next(List<T> rows, int size, Function<T, LocalDateTime> time, Function<T, Long> id) {
+        if (size < 1 || rows.size() <= size) {
+            return null;
+        }
+        T last = rows.get(size - 1);
+        return encode(time.apply(last), id.apply(last));
+    }
+}
@@ -12,8 +12,13 @@ public enum ErrorStatus {
     PAGE_LT_ONE(HttpStatus.BAD_REQUEST,"COMMON401","잘못된 페이지입니다."),
     BAD_QUERY_STRING(HttpStatus.BAD_REQUEST,"COMMON402","잘못된 쿼리스트링입니다."),
     NO_CONTENT(HttpStatus.BAD_REQUEST,"COMMON403","결과가 존재하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST,"COMMON404","잘못된 커서입니다."),
+    INVALID_SIZE(HttpStatus.BAD_REQUEST,"COMMON405","잘못된 페이지 크기입니다."),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "COMMON413", "요청 본문이 너무 큽니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
     EXPIRED_JWT(HttpStatus.OK, "3000", "만료된 토큰입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "JWT_REFRESH", "RefreshToken이 일치하지 않습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "JWT_REFRESH_REUSED", "이미 사용된 RefreshToken입니다. 다시 로그인해 주세요."),
     INTERNAL_SERVER_ERROR(HttpStatus.OK, "SERVER", "서버 에러"),
     BAD_JWT(HttpStatus.OK, "2000", "JWT 토큰이 잘못되었습니다."),
 
@@ -38,6 +43,9 @@ public enum ErrorStatus {
     USERID_DUPLICATE(HttpStatus.BAD_REQUEST,"AUTH_4015", "중복된 아이디입니다."),
     IDENTIFYNUM_FORMAT_ERROR(HttpStatus.BAD_REQUEST, "AUTH_4016", "주민번호 형식이 맞지 않습니다."),
     SCHOOL_FORMAT_ERROR(HttpStatus.BAD_REQUEST, "AUTH_4017", "학교 형식이 잘못되었습니다."),
+    EMAIL_SEND_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "AUTH_4018", "인증번호 발급 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+    EMAIL_CODE_LOCKED(HttpStatus.TOO_MANY_REQUESTS, "AUTH_4019", "인증번호를 여러 번 틀려 잠시 인증할 수 없습니다."),
+    PASSWORD_HASH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AUTH_5001", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
 
     FACILITY_NOT_FOUND(HttpStatus.NOT_FOUND, "STORE_4001","시설이 없습니다."),
@@ -0,0 +1,56 @@
+package com.example.school.auth.config;
+
+import com.example.school.domain.Member;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+// 요청한 회원의 id/학교 id/권한 (토큰 클레임에서 만들어 DB 를 조회하지 않음)
+// 인증 후 SecurityContext 의 principal 로도 사용된다.
+@Getter
+@AllArgsConstructor
+public class AuthMember {
+    public static final String ATTRIBUTE = AuthMember.class.getName();
+    public static final String MEMBER_ID_CLAIM = "memberId";
+    public static final String SCHOOL_ID_CLAIM = "schoolId";
+    public static final String ROLES_CLAIM = "roles";
+    // 회원에 권한 컬럼이 없으므로 모두 일반 사용자
+    public static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
+    private final Long memberId;
+    private final Long schoolId;
+    private final String email;
+    private final List<String> roles;
+
+    // 클레임이 없는 이전 토큰이면 null
+    public static AuthMember from(Claims claims) {
+        Long memberId = claims.get(MEMBER_ID_CLAIM, Long.class);
+        Long schoolId = claims.get(SCHOOL_ID_CLAIM, Long.class);
+        if (memberId == null || schoolId == null) {
+            return null;
+        }
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return new AuthMember(memberId, schoolId, claims.get("email", String.class),
+                roles != null ? roles.stream().map(String::valueOf).toList() : DEFAULT_ROLES);
+    }
+
+    // 학교는 프록시의 id 만 사용하므로 추가 조회 없음
+    public static AuthMember from(Member member) {
+        return new AuthMember(member.getId(), member.getSchool() != null ? member.getSchool().getId() : null,
+                member.getEmail(), DEFAULT_ROLES);
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+    }
+
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(this, "", getAuthorities());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.school.auth.config;
+
+import com.example.school.apiPayload.GeneralException;
+import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.domain.Member;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// 컨트롤러의 AuthMember 파라미터 주입
+// 필터가 요청 속성에 넣어 둔 값을 사용하고, 없으면 인증 정보의 principal 에서 만든다.
+public class AuthMemberArgumentResolver implements HandlerMethodArgumentResolver {
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthMember.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object authMember = webRequest.getAttribute(AuthMember.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authMember instanceof AuthMember) {
+            return authMember;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember principal) {
+            return principal;
+        }
+        if (authentication != null && authentication.getPrincipal() instanceof Member member) {
+            return AuthMember.from(member);
+        }
+        throw new GeneralException(ErrorStatus.BAD_JWT);
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.school.auth.config;
 
 import com.example.school.auth.config.util.JwtUtils;
-import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.config.util.TokenBlacklist;
+import com.example.school.domain.Member;
 import io.jsonwebtoken.*;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,7 +20,7 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
-    private final RedisUtils redisUtils;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -30,17 +31,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null && !token.isEmpty()) {
             try {
-                jwtUtils.parseToken(token);
+                Claims claims = jwtUtils.parseToken(token);
+                // RefreshToken 은 재발급에만 사용 (인증에 쓰면 로그아웃 후에도 유효 기간 내내 통과됨)
+                if (jwtUtils.isRefreshToken(claims)) {
+                    throw new UnsupportedJwtException("refresh token");
+                }
+                AuthMember authMember = AuthMember.from(claims);
                 if (!request.getRequestURI().equals("/api/reissue")) {
-                        String isLogout = redisUtils.getData(token);
-                        if (isLogout == null) {
-                            log.info("enter the this logic");
-                            Authentication authentication = jwtUtils.getAuthentication(token);
-                            log.info("filter get Authorities() : " + authentication.getAuthorities().toString());
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                        } else {
+                    if (tokenBlacklist.isRevoked(claims, token)) {
                         throw new RuntimeException("허가받지 않은 토큰입니다.");
                     }
+                    // 클레임으로 인증 (회원 클레임이 없는 이전 토큰만 회원을 조회)
+                    Authentication authentication;
+                    if (authMember != null) {
+                        authentication = authMember.toAuthentication();
+                    } else {
+                        authentication = jwtUtils.getAuthentication(token);
+                        if (authentication != null && authentication.getPrincipal() instanceof Member member) {
+                            authMember = AuthMember.from(member);
+                        }
+                    }
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+                if (authMember != null) {
+                    request.setAttribute(AuthMember.ATTRIBUTE, authMember);
                 }
             } catch (ExpiredJwtException e) {
                 log.info("expired Token");
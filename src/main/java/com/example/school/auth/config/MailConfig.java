@@ -27,6 +27,12 @@ public class MailConfig {
     private String id;
     @Value("${spring.mail.password}")
     private String password;
+    // 로컬 테스트용 SMTP 서버는 SSL 없이 사용
+    @Value("${spring.mail.properties.mail.smtp.ssl.enable:true}")
+    private boolean ssl;
+    // 느린 릴레이가 발송 스레드를 붙잡지 않도록 연결/응답 대기 시간 제한
+    @Value("${spring.mail.timeout-ms:10000}")
+    private int timeoutMillis;
 
     @Bean
     public JavaMailSender javaMailService() {
@@ -47,7 +53,10 @@ public class MailConfig {
         properties.put("mail.smtp.starttls.enable", starttls);
         properties.put("mail.smtp.starttls.required", startlls_required);
         properties.put("mail.smtp.ssl.trust", host);
-        properties.put("mail.smtp.ssl.enable", "true");
+        properties.put("mail.smtp.ssl.enable", ssl);
+        properties.put("mail.smtp.connectiontimeout", timeoutMillis);
+        properties.put("mail.smtp.timeout", timeoutMillis);
+        properties.put("mail.smtp.writetimeout", timeoutMillis);
 //        properties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
         return properties;
     }
@@ -0,0 +1,208 @@
+package com.example.school.auth.config;
+
+import com.example.school.apiPayload.ApiResponse;
+import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.auth.config.util.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 인증 API 요청 제한 (JwtAuthenticationFilter 앞)
+// 경로마다 IP 와 요청 본문/헤더의 사용자 값으로 버킷을 나누고, 하나라도 비면 429 와 Retry-After(초)로 응답한다.
+// 본문 규칙이 있는 경로는 본문을 MAX_BODY_BYTES 까지 읽고, 더 크면 413 으로 응답한다.
+// IP 는 getRemoteAddr 기준이므로 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 한다.
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String IP_KEY = "ip";
+    private static final String BODY_KEY = "body:";
+    private static final String HEADER_KEY = "header:";
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    // 디코딩된 애플리케이션 경로로 비교 (/api/v1/auth/%6Cogin 도 login 으로 매칭)
+    private final Map<RateLimitProperties.Route, RequestMatcher> matchers = new LinkedHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            matchers.put(route, route.getMethod() == null
+                    ? AntPathRequestMatcher.antMatcher(route.getPath())
+                    : AntPathRequestMatcher.antMatcher(HttpMethod.valueOf(route.getMethod().toUpperCase(Locale.ROOT)), route.getPath()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || matchingRoutes(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        List<RateLimitProperties.Route> routes = matchingRoutes(request);
+        if (routes.stream().anyMatch(route -> route.getKey().startsWith(BODY_KEY))) {
+            CachedBodyRequest cached = CachedBodyRequest.read(request);
+            // 본문을 끝까지 확인할 수 없으면 사용자 제한을 건너뛰지 않고 거절
+            if (cached == null) {
+                reject(response, ErrorStatus.PAYLOAD_TOO_LARGE, 0);
+                return;
+            }
+            request = cached;
+        }
+
+        List<RateLimiter.Limit> limits = new ArrayList<>(routes.size());
+        JsonNode body = null;
+        for (RateLimitProperties.Route route : routes) {
+            String value;
+            if (route.getKey().equals(IP_KEY)) {
+                value = request.getRemoteAddr();
+            } else if (route.getKey().startsWith(HEADER_KEY)) {
+                value = hash(request.getHeader(route.getKey().substring(HEADER_KEY.length())));
+            } else {
+                if (body == null) {
+                    body = readBody(request);
+                }
+                value = hash(body.path(route.getKey().substring(BODY_KEY.length())).asText(null));
+            }
+            // 값이 없으면 해당 규칙은 건너뜀 (본문 검증은 컨트롤러에서)
+            if (value != null) {
+                limits.add(new RateLimiter.Limit(route.getPath() + ":" + route.getKey() + ":" + value,
+                        route.getCapacity(), route.getRefillPerMinute()));
+            }
+        }
+
+        long waitMillis = rateLimiter.tryAcquire(limits);
+        if (waitMillis > 0) {
+            log.info("요청 제한 - {} {}, {}ms 후 재시도", request.getMethod(), request.getRequestURI(), waitMillis);
+            reject(response, ErrorStatus.TOO_MANY_REQUESTS, waitMillis);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private List<RateLimitProperties.Route> matchingRoutes(HttpServletRequest request) {
+        List<RateLimitProperties.Route> routes = new ArrayList<>();
+        matchers.forEach((route, matcher) -> {
+            if (matcher.matches(request)) {
+                routes.add(route);
+            }
+        });
+        return routes;
+    }
+
+    private JsonNode readBody(HttpServletRequest request) {
+        if (request instanceof CachedBodyRequest cached && cached.body.length > 0) {
+            try {
+                return objectMapper.readTree(cached.body);
+            } catch (IOException e) {
+                // 잘못된 본문은 컨트롤러에서 400 으로 응답
+            }
+        }
+        return objectMapper.missingNode();
+    }
+
+    // 이메일/토큰을 그대로 키에 남기지 않도록 해시
+    private String hash(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return DigestUtils.md5DigestAsHex(value.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void reject(HttpServletResponse response, ErrorStatus status, long waitMillis) throws IOException {
+        response.setStatus(status.getHttpStatus().value());
+        if (waitMillis > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.onFailure(status.getCode(), status.getMessage()));
+    }
+
+    // 본문을 미리 읽어 두고 컨트롤러에서 다시 읽을 수 있게 한다
+    static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        // Content-Length 가 없는(chunked) 본문도 MAX_BODY_BYTES 까지만 읽고, 넘으면 null
+        static CachedBodyRequest read(HttpServletRequest request) throws IOException {
+            if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                return null;
+            }
+            return new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
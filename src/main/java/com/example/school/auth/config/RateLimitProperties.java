@@ -0,0 +1,41 @@
+package com.example.school.auth.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 경로별 요청 제한 (auth.rate-limit.routes 로 바꾸면 기본 목록 전체를 대체)
+// key 는 "ip", "body:{JSON 필드}", "header:{헤더 이름}" 중 하나이고, 한 경로에 여러 규칙이 있으면 모두 통과해야 한다.
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("POST", "/api/v1/auth/login", "ip", 30, 30),
+            new Route("POST", "/api/v1/auth/login", "body:userId", 10, 5),
+            new Route("POST", "/api/v1/auth/email-send", "ip", 10, 5),
+            new Route("POST", "/api/v1/auth/email-send", "body:email", 3, 1),
+            new Route("POST", "/api/v1/auth/find-userId", "ip", 10, 10),
+            new Route("POST", "/api/v1/auth/find-userId", "body:email", 5, 5),
+            new Route("POST", "/api/v1/auth/find-password", "ip", 10, 10),
+            new Route("POST", "/api/v1/auth/find-password", "body:email", 5, 5),
+            new Route("POST", "/api/v1/auth/reissue", "ip", 30, 30),
+            new Route("POST", "/api/v1/auth/reissue", "header:Authorization", 5, 5)
+    ));
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Route {
+        private String method;
+        private String path;
+        private String key;
+        // 최대로 쌓이는 요청 수와 분당 충전되는 요청 수
+        private int capacity;
+        private double refillPerMinute;
+    }
+}
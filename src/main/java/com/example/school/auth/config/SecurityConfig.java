@@ -3,9 +3,13 @@ package com.example.school.auth.config;
 import com.example.school.auth.config.handler.CustomAccessDeniedHandler;
 import com.example.school.auth.config.handler.CustomAuthenticationEntryPoint;
 import com.example.school.auth.config.util.JwtUtils;
-import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.config.util.RateLimiter;
+import com.example.school.auth.config.util.TokenBlacklist;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,9 +31,13 @@ import org.springframework.web.cors.CorsConfiguration;
 @EnableWebSecurity
 @Slf4j
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
     private final JwtUtils jwtUtils;
-    private final RedisUtils redisUtils;
+    private final TokenBlacklist tokenBlacklist;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -55,10 +63,16 @@ public class SecurityConfig {
                         .accessDeniedHandler(new CustomAccessDeniedHandler())
                         .authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class)
                 .build();
     }
     JwtAuthenticationFilter jwtAuthenticationFilter(){
-        return new JwtAuthenticationFilter(jwtUtils, redisUtils);
+        return new JwtAuthenticationFilter(jwtUtils, tokenBlacklist);
+    }
+
+    // 빈으로 등록하면 서블릿 필터로도 한 번 더 실행되므로 체인 안에서만 생성
+    RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper);
     }
 
     @Bean
@@ -67,8 +81,9 @@ public class SecurityConfig {
     }
 
 
+    // 강도를 올리면 기존 해시는 다음 로그인 때 새 강도로 다시 저장된다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
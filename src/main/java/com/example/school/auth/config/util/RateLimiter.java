@@ -0,0 +1,132 @@
+package com.example.school.auth.config.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 토큰 버킷 요청 제한 (RateLimit:{버킷})
+// 여러 버킷을 스크립트 하나로 확인해 모두 남아 있을 때만 함께 차감한다.
+// Redis 를 쓸 수 없으면 잠시 서버 메모리의 버킷으로 대신 제한한다 (서버마다 따로 계산됨).
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final String KEY_PREFIX = "RateLimit:";
+    private static final long REDIS_RETRY_MILLIS = 5000L;
+
+    // 버킷 = {t: 남은 토큰, ts: 마지막 계산 시각(ms)}
+    // ARGV = 현재 시각, 버킷별 (최대 토큰, ms 당 충전량) / 반환 = 0 이면 통과, 아니면 기다려야 할 ms
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local wait = 0 " +
+            "local tokens = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local capacity = tonumber(ARGV[i * 2]) " +
+            "  local rate = tonumber(ARGV[i * 2 + 1]) " +
+            "  local bucket = redis.call('HMGET', key, 't', 'ts') " +
+            "  local last = tonumber(bucket[2]) or now " +
+            "  tokens[i] = math.min(capacity, (tonumber(bucket[1]) or capacity) + math.max(0, now - last) * rate) " +
+            "  if tokens[i] < 1 then wait = math.max(wait, math.ceil((1 - tokens[i]) / rate)) end " +
+            "end " +
+            "if wait > 0 then return wait end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('HSET', key, 't', tostring(tokens[i] - 1), 'ts', ARGV[1]) " +
+            "  redis.call('PEXPIRE', key, math.ceil(tonumber(ARGV[i * 2]) / tonumber(ARGV[i * 2 + 1]))) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+    private final Counter fallbackCounter;
+    private volatile long redisRetryAt;
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.fallbackCounter = meterRegistry.counter("auth.rate-limit.fallback");
+    }
+
+    // 통과하면 0, 아니면 다시 시도할 수 있을 때까지 남은 ms
+    public long tryAcquire(List<Limit> limits) {
+        if (limits.isEmpty()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= redisRetryAt) {
+            try {
+                return acquireInRedis(limits, now);
+            } catch (DataAccessException e) {
+                redisRetryAt = now + REDIS_RETRY_MILLIS;
+                log.warn("요청 제한 Redis 사용 불가, {}ms 동안 서버 메모리로 제한", REDIS_RETRY_MILLIS, e);
+            }
+        }
+        fallbackCounter.increment();
+        return acquireLocally(limits, now);
+    }
+
+    private long acquireInRedis(List<Limit> limits, long now) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(1 + limits.size() * 2);
+        args.add(String.valueOf(now));
+        for (Limit limit : limits) {
+            keys.add(KEY_PREFIX + limit.key());
+            args.add(String.valueOf(limit.capacity()));
+            args.add(String.valueOf(limit.refillPerMillis()));
+        }
+        Long wait = stringRedisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+        return wait == null ? 0 : wait;
+    }
+
+    private long acquireLocally(List<Limit> limits, long now) {
+        List<LocalBucket> buckets = new ArrayList<>(limits.size());
+        for (Limit limit : limits) {
+            buckets.add(localBuckets.get(limit.key(), key -> new LocalBucket(limit.capacity(), now)));
+        }
+        // 버킷마다 잠그면 순서에 따라 교착될 수 있어 전체를 한 번에 잠근다
+        synchronized (localBuckets) {
+            long wait = 0;
+            for (int i = 0; i < limits.size(); i++) {
+                wait = Math.max(wait, buckets.get(i).waitMillis(limits.get(i), now));
+            }
+            if (wait > 0) {
+                return wait;
+            }
+            buckets.forEach(bucket -> bucket.tokens -= 1);
+            return 0;
+        }
+    }
+
+    public record Limit(String key, int capacity, double refillPerMinute) {
+        double refillPerMillis() {
+            return refillPerMinute / 60_000d;
+        }
+    }
+
+    private static class LocalBucket {
+        double tokens;
+        long refilledAt;
+
+        LocalBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        long waitMillis(Limit limit, long now) {
+            tokens = Math.min(limit.capacity(), tokens + Math.max(0, now - refilledAt) * limit.refillPerMillis());
+            refilledAt = now;
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / limit.refillPerMillis());
+        }
+    }
+}
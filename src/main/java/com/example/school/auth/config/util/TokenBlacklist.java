@@ -0,0 +1,182 @@
+package com.example.school.auth.config.util;
+
+import com.example.school.auth.config.AuthMember;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 로그아웃/강제 종료된 AccessToken 확인
+// 토큰 문자열 대신 로그인 계열 id(Revoked:{sid})와 회원별 기준 시각(TokensBefore:{회원 id}, 이보다 먼저 발급된 토큰은 무효)만
+// Redis 에 두고, 두 키를 MGET 한 번으로 확인한다.
+// 요청마다 Redis 를 조회하지 않도록 결과를 서버 메모리에 두고, 변경은 pub/sub 으로 모든 서버에 알린다.
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+    public static final String CHANNEL = "Logout:revoke";
+    private static final String REVOKED_PREFIX = "Revoked:";
+    private static final String TOKENS_BEFORE_PREFIX = "TokensBefore:";
+    private static final String SESSION_MESSAGE = "session:";
+    private static final String MEMBER_MESSAGE = "member:";
+    private static final String LOGOUT = "logout";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 로그아웃된 계열 id
+    private final Cache<String, Boolean> revokedSessions;
+    // 회원 id -> 기준 시각(초)
+    private final Cache<Long, Long> tokensBefore;
+    // Redis 에서 유효함을 확인한 계열 id (또는 이전 토큰 문자열)
+    private final Cache<String, Boolean> active;
+    private final Counter localHitCounter;
+    private final Counter redisCounter;
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                          @Value("${jwt.blacklist.local-size:100000}") long localSize,
+                          @Value("${jwt.blacklist.active-ttl-ms:10000}") long activeTtlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // AccessToken 유효 시간이 지나면 해당 토큰은 어차피 만료됨
+        this.revokedSessions = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofMillis(JwtUtils.TOKEN_VALID_TIME))
+                .build();
+        this.tokensBefore = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofMillis(JwtUtils.TOKEN_VALID_TIME))
+                .build();
+        // pub/sub 메시지를 놓친 서버도 이 시간이 지나면 Redis 를 다시 확인한다
+        this.active = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofMillis(activeTtlMillis))
+                .build();
+        this.localHitCounter = meterRegistry.counter("auth.blacklist.lookup", "result", "local");
+        this.redisCounter = meterRegistry.counter("auth.blacklist.lookup", "result", "redis");
+    }
+
+    public boolean isRevoked(Claims claims, String token) {
+        String sessionId = claims.get(JwtUtils.SESSION_ID_CLAIM, String.class);
+        if (sessionId == null) {
+            return isRevokedLegacy(token);
+        }
+        Long memberId = claims.get(AuthMember.MEMBER_ID_CLAIM, Long.class);
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : 0;
+
+        Long before = memberId != null ? tokensBefore.getIfPresent(memberId) : null;
+        if (revokedSessions.getIfPresent(sessionId) != null || (before != null && issuedAt < before)) {
+            localHitCounter.increment();
+            return true;
+        }
+        if (active.getIfPresent(sessionId) != null) {
+            localHitCounter.increment();
+            return false;
+        }
+
+        redisCounter.increment();
+        List<String> keys = new ArrayList<>(2);
+        keys.add(REVOKED_PREFIX + sessionId);
+        if (memberId != null) {
+            keys.add(TOKENS_BEFORE_PREFIX + memberId);
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values != null && values.get(0) != null) {
+            revokedSessions.put(sessionId, Boolean.TRUE);
+            return true;
+        }
+        if (values != null && values.size() > 1 && values.get(1) != null) {
+            before = Long.parseLong(values.get(1));
+            tokensBefore.put(memberId, before);
+            if (issuedAt < before) {
+                return true;
+            }
+        }
+        active.put(sessionId, Boolean.TRUE);
+        return false;
+    }
+
+    // 한 기기(로그인 계열)의 AccessToken 을 모두 무효로 한다
+    public void revokeSession(String sessionId) {
+        markRevoked(sessionId);
+        stringRedisTemplate.opsForValue().set(REVOKED_PREFIX + sessionId, LOGOUT, Duration.ofMillis(JwtUtils.TOKEN_VALID_TIME));
+        publish(SESSION_MESSAGE + sessionId);
+    }
+
+    // 지금까지 발급된 회원의 모든 토큰을 무효로 한다
+    // iat 는 초 단위라 같은 초에 새로 발급된 토큰까지 막히도록 다음 초를 기준으로 둔다
+    public void revokeAll(Long memberId) {
+        long before = System.currentTimeMillis() / 1000 + 1;
+        markMemberRevoked(memberId, before);
+        stringRedisTemplate.opsForValue().set(TOKENS_BEFORE_PREFIX + memberId, String.valueOf(before),
+                Duration.ofMillis(JwtUtils.REFRESH_TOKEN_VALID_TIME));
+        publish(MEMBER_MESSAGE + memberId + ":" + before);
+    }
+
+    // 계열 id 가 없는 이전 토큰 (Redis 키 = 토큰), 배포 후 AccessToken 유효 시간이 지나면 사용되지 않음
+    public void revoke(String token, long remainingMillis) {
+        markRevoked(token);
+        long seconds = Math.max(1, (remainingMillis + 999) / 1000);
+        stringRedisTemplate.opsForValue().set(token, LOGOUT, Duration.ofSeconds(seconds));
+        publish(token);
+    }
+
+    private boolean isRevokedLegacy(String token) {
+        if (revokedSessions.getIfPresent(token) != null) {
+            localHitCounter.increment();
+            return true;
+        }
+        if (active.getIfPresent(token) != null) {
+            localHitCounter.increment();
+            return false;
+        }
+        redisCounter.increment();
+        if (stringRedisTemplate.opsForValue().get(token) != null) {
+            revokedSessions.put(token, Boolean.TRUE);
+            return true;
+        }
+        active.put(token, Boolean.TRUE);
+        return false;
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("로그아웃 토큰 전파 실패", e);
+        }
+    }
+
+    // 다른 서버에서 로그아웃/강제 종료된 토큰
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(SESSION_MESSAGE)) {
+            markRevoked(body.substring(SESSION_MESSAGE.length()));
+        } else if (body.startsWith(MEMBER_MESSAGE)) {
+            String[] parts = body.substring(MEMBER_MESSAGE.length()).split(":");
+            markMemberRevoked(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } else {
+            markRevoked(body);
+        }
+    }
+
+    // 계열 id 또는 이전 토큰 문자열
+    private void markRevoked(String key) {
+        revokedSessions.put(key, Boolean.TRUE);
+        active.invalidate(key);
+    }
+
+    private void markMemberRevoked(Long memberId, long before) {
+        tokensBefore.asMap().merge(memberId, before, Math::max);
+    }
+}
@@ -96,9 +96,10 @@ public class AuthController {
 //        if (authQueryService.validateDuplicateEmail(emailAuthReqDTO.getEmail())) {
 //            return ApiResponse.onFailure(ErrorStatus.EMAIL_DUPLICATE.getCode(), ErrorStatus.EMAIL_DUPLICATE.getMessage());
 //        }
-        String verificationCode = mailService.sendCertificationMail(emailAuthReqDTO.getEmail());
+        // 인증번호는 메일로만 전달한다
+        mailService.sendCertificationMail(emailAuthReqDTO.getEmail());
 
-        return ApiResponse.onSuccess(verificationCode);
+        return ApiResponse.onSuccess("인증번호가 전송되었습니다.");
     }
 
     // 이메일 인증
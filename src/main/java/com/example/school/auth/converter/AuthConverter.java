@@ -4,7 +4,6 @@ package com.example.school.auth.converter;
 import com.example.school.auth.dto.AuthRequestDTO;
 import com.example.school.auth.dto.AuthResponseDTO;
 import com.example.school.domain.Member;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 public class AuthConverter {
 
@@ -15,9 +14,7 @@ public class AuthConverter {
                 .build();
     }
 
-    public static Member toMember(AuthRequestDTO.RegisterReqDTO request) {
-        String encryptedPassword = new BCryptPasswordEncoder().encode(request.getPassword());
-
+    public static Member toMember(AuthRequestDTO.RegisterReqDTO request, String encryptedPassword) {
         return Member.builder()
                 .name(request.getName())
                 .userId(request.getUserId())
@@ -0,0 +1,55 @@
+package com.example.school.auth.repository;
+
+import com.example.school.domain.MailOutbox;
+import com.example.school.domain.enums.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    //발송 시각이 된 메일 (status, next_attempt_at 인덱스 범위 조회, 커서 (cursorAt, cursorId) 다음부터)
+    @Query("select m from MailOutbox m " +
+            "where m.status=:status and m.nextAttemptAt<=:now " +
+            "and (m.nextAttemptAt>:cursorAt or (m.nextAttemptAt=:cursorAt and m.id>:cursorId)) " +
+            "order by m.nextAttemptAt asc, m.id asc")
+    List<MailOutbox> findDue(MailStatus status, LocalDateTime now, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    //발송할 서버 하나만 성공하도록 조건부로 임대 (1이면 성공)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.nextAttemptAt=:leaseUntil, m.attempts=m.attempts+1 " +
+            "where m.id=:id and m.status=:status and m.nextAttemptAt<=:now")
+    int claim(Long id, MailStatus status, LocalDateTime now, LocalDateTime leaseUntil);
+
+    //발송 직전 임대 연장 (이번 임대 시각 그대로일 때만, 만료되어 다른 서버가 가져갔으면 0)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.nextAttemptAt=:renewedUntil " +
+            "where m.id in :ids and m.status=com.example.school.domain.enums.MailStatus.PENDING and m.nextAttemptAt=:leaseUntil")
+    int renew(List<Long> ids, LocalDateTime leaseUntil, LocalDateTime renewedUntil);
+
+    //보낸 메일은 본문(인증번호)을 바로 비우고, 보관 기간 기준 시각을 next_attempt_at 에 남긴다
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status=com.example.school.domain.enums.MailStatus.SENT, m.sentAt=:now, m.nextAttemptAt=:now, " +
+            "m.body=null, m.lastError=null " +
+            "where m.id in :ids")
+    int markSent(List<Long> ids, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status=:status, m.nextAttemptAt=:nextAttemptAt, m.lastError=:error " +
+            "where m.id=:id")
+    int markFailed(Long id, MailStatus status, LocalDateTime nextAttemptAt, String error);
+
+    //발송이 끝난(SENT/FAILED) 메일을 limit 건씩 삭제 (status, next_attempt_at 인덱스)
+    @Transactional
+    @Modifying
+    @Query(value = "delete from mail_outbox where status in ('SENT', 'FAILED') and next_attempt_at < :before limit :limit", nativeQuery = true)
+    int deleteFinished(LocalDateTime before, int limit);
+}
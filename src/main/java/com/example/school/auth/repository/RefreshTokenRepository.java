@@ -0,0 +1,71 @@
+package com.example.school.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+// 기기(로그인)별 RefreshToken 계열 (RT:{계열 id} = 현재 RefreshToken 의 jti)
+// 재발급할 때마다 jti 를 바꾸고, 이미 바뀐 jti 로 다시 요청하면 탈취로 보고 계열을 지운다.
+// 회원의 계열 목록(RT:member:{회원 id})은 회원 탈퇴 등으로 모든 기기를 끊을 때만 사용한다.
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+    public static final long ROTATED = 1;
+    public static final long NOT_FOUND = 0;
+    public static final long REUSED = -1;
+
+    private static final String KEY_PREFIX = "RT:";
+    private static final String MEMBER_PREFIX = "RT:member:";
+
+    // 계열을 만들며 이미 끝난 계열은 목록에서 정리한다
+    // KEYS = 계열, 회원의 계열 목록 / ARGV = jti, 유효 시간(초), 계열 id, 계열 키 접두어
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "for _, family in ipairs(redis.call('SMEMBERS', KEYS[2])) do " +
+            "  if redis.call('EXISTS', ARGV[4] .. family) == 0 then redis.call('SREM', KEYS[2], family) end " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return 1", Long.class);
+
+    // KEYS = 계열 / ARGV = 제시한 jti, 새 jti, 유효 시간(초)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return 0 end " +
+            "if current ~= ARGV[1] then redis.call('DEL', KEYS[1]) return -1 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    // KEYS = 회원의 계열 목록 / ARGV = 계열 키 접두어
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local families = redis.call('SMEMBERS', KEYS[1]) " +
+            "for _, family in ipairs(families) do redis.call('DEL', ARGV[1] .. family) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #families", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void create(Long memberId, String familyId, String tokenId, Duration ttl) {
+        stringRedisTemplate.execute(CREATE_SCRIPT, List.of(KEY_PREFIX + familyId, MEMBER_PREFIX + memberId),
+                tokenId, String.valueOf(ttl.getSeconds()), familyId, KEY_PREFIX);
+    }
+
+    public long rotate(String familyId, String tokenId, String newTokenId, Duration ttl) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + familyId),
+                tokenId, newTokenId, String.valueOf(ttl.getSeconds()));
+        return result == null ? NOT_FOUND : result;
+    }
+
+    public boolean delete(String familyId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(KEY_PREFIX + familyId));
+    }
+
+    public void deleteAll(Long memberId) {
+        stringRedisTemplate.execute(DELETE_ALL_SCRIPT, List.of(MEMBER_PREFIX + memberId), KEY_PREFIX);
+    }
+}
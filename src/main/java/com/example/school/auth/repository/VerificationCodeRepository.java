@@ -0,0 +1,71 @@
+package com.example.school.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+// 이메일 인증번호 (EmailCode:{email})
+// 틀린 횟수(EmailCode:attempts:{email})와 발급 횟수(EmailCode:issued:{email})를 함께 두고,
+// 발급/확인은 각각 스크립트 하나로 처리해 요청당 한 번만 Redis 를 왕복한다.
+@Repository
+@RequiredArgsConstructor
+public class VerificationCodeRepository {
+    public static final long ISSUED = 1;
+    public static final long ISSUE_LIMITED = -1;
+    public static final long VERIFIED = 1;
+    public static final long MISMATCH = 0;
+    public static final long LOCKED = -2;
+
+    private static final String KEY_PREFIX = "EmailCode:";
+    private static final String ATTEMPTS_PREFIX = "EmailCode:attempts:";
+    private static final String ISSUED_PREFIX = "EmailCode:issued:";
+
+    // 잠긴 이메일이거나 기간 내 발급 횟수를 넘으면 발급하지 않음
+    // KEYS = 인증번호, 틀린 횟수, 발급 횟수 / ARGV = 인증번호, 유효 시간(초), 최대 발급 횟수, 발급 기간(초), 최대 틀린 횟수
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') >= tonumber(ARGV[5]) then return -2 end " +
+            "local issued = redis.call('INCR', KEYS[3]) " +
+            "if issued == 1 then redis.call('EXPIRE', KEYS[3], ARGV[4]) end " +
+            "if issued > tonumber(ARGV[3]) then return -1 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "return 1", Long.class);
+
+    // 일치하면 인증번호를 지우고(한 번만 사용), 틀리면 횟수를 올려 최대 횟수에 닿으면 인증번호도 지운다
+    // 최대 횟수에 닿은 시점부터 잠금 시간을 다시 잡는다 (첫 실패 기준이면 잠금이 거의 바로 풀릴 수 있음)
+    // KEYS = 인증번호, 틀린 횟수 / ARGV = 입력한 인증번호, 최대 틀린 횟수, 잠금 시간(초)
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') >= tonumber(ARGV[2]) then return -2 end " +
+            "local stored = redis.call('GET', KEYS[1]) " +
+            "if not stored then return 0 end " +
+            "if stored == ARGV[1] then redis.call('DEL', KEYS[1], KEYS[2]) return 1 end " +
+            "local attempts = redis.call('INCR', KEYS[2]) " +
+            "if attempts >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "elseif attempts == 1 then redis.call('EXPIRE', KEYS[2], ARGV[3]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long issue(String email, String code, Duration ttl, int maxIssues, Duration issueWindow, int maxAttempts) {
+        String key = normalize(email);
+        Long result = stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(KEY_PREFIX + key, ATTEMPTS_PREFIX + key, ISSUED_PREFIX + key),
+                code, String.valueOf(ttl.getSeconds()), String.valueOf(maxIssues),
+                String.valueOf(issueWindow.getSeconds()), String.valueOf(maxAttempts));
+        return result == null ? ISSUE_LIMITED : result;
+    }
+
+    public long verify(String email, String code, int maxAttempts, Duration lockout) {
+        String key = normalize(email);
+        Long result = stringRedisTemplate.execute(VERIFY_SCRIPT, List.of(KEY_PREFIX + key, ATTEMPTS_PREFIX + key),
+                code, String.valueOf(maxAttempts), String.valueOf(lockout.getSeconds()));
+        return result == null ? MISMATCH : result;
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+}
@@ -4,8 +4,11 @@ import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
 import com.example.school.auth.config.util.JwtUtils;
 import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.config.util.TokenBlacklist;
+import com.example.school.auth.repository.RefreshTokenRepository;
 import com.example.school.domain.Member;
 import com.example.school.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +20,8 @@ public class AuthCommandServiceImpl implements AuthCommandService{
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
     private final RedisUtils redisUtils;
+    private final TokenBlacklist tokenBlacklist;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     //회원탈퇴
     @Override
@@ -27,16 +32,32 @@ public class AuthCommandServiceImpl implements AuthCommandService{
             throw new GeneralException(ErrorStatus.MEMBER_NOT_FOUND);
         });
         userRepository.delete(member);
-        logout(accessToken);
+        // 모든 기기의 RefreshToken 과 지금까지 발급된 토큰을 끊는다
+        refreshTokenRepository.deleteAll(member.getId());
+        redisUtils.deleteData("RT:" + email);
+        tokenBlacklist.revokeAll(member.getId());
         return true;
     }
 
-    //로그아웃
+    //로그아웃 (요청한 기기만)
     @Override
     public void logout(String accessToken) {
         String resolvedToken = jwtUtils.resolveToken(accessToken);
+        Claims claims = jwtUtils.parseToken(resolvedToken);
+        String sessionId = claims.get(JwtUtils.SESSION_ID_CLAIM, String.class);
 
-        String email = jwtUtils.getEmailInToken(resolvedToken);
+        if (sessionId != null) {
+            // 계열이 이미 없어도(만료, 재사용으로 삭제) 요청한 AccessToken 은 끊는다
+            boolean deleted = refreshTokenRepository.delete(sessionId);
+            tokenBlacklist.revokeSession(sessionId);
+            if (!deleted) {
+                throw new GeneralException(ErrorStatus.REFRESHTOKEN_NOT_FOUND);
+            }
+            return;
+        }
+
+        // 계열이 없는 이전 토큰
+        String email = claims.get("email", String.class);
         String data = redisUtils.getData("RT:" + email);
         if(data != null) {
             redisUtils.deleteData("RT:" + email);
@@ -44,7 +65,7 @@ public class AuthCommandServiceImpl implements AuthCommandService{
             throw new GeneralException(ErrorStatus.REFRESHTOKEN_NOT_FOUND);
         }
 
-        redisUtils.setDataExpire(resolvedToken, "logout", jwtUtils.getExpiration(resolvedToken));
+        tokenBlacklist.revoke(resolvedToken, jwtUtils.getExpiration(resolvedToken));
     }
 
 }
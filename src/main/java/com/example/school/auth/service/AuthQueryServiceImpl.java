@@ -2,23 +2,28 @@ package com.example.school.auth.service;
 
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.auth.config.AuthMember;
 import com.example.school.auth.config.util.JwtUtils;
 import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.config.util.TokenBlacklist;
 import com.example.school.auth.converter.AuthConverter;
 import com.example.school.auth.dto.AuthRequestDTO;
 import com.example.school.auth.dto.AuthResponseDTO;
 import com.example.school.auth.repository.AuthRepository;
+import com.example.school.auth.repository.RefreshTokenRepository;
 import com.example.school.awsS3.AwsS3Service;
 import com.example.school.domain.Member;
 import com.example.school.domain.School;
 import com.example.school.facility.repository.SchoolRepository;
 import com.example.school.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -28,13 +33,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthQueryServiceImpl implements AuthQueryService {
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofSeconds(JwtUtils.REFRESH_TOKEN_VALID_TIME_IN_REDIS);
 
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final MailService mailService;
     private final JwtUtils jwtUtils;
     private final RedisUtils redisUtils;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenBlacklist tokenBlacklist;
     private final AwsS3Service awsS3Service;
     private final SchoolRepository schoolRepository;
 
@@ -45,14 +53,15 @@ public class AuthQueryServiceImpl implements AuthQueryService {
 //        Member newMember = AuthConverter.toMember(registerReqDTO);
 //        return userRepository.save(newMember);
 //    }
+    // 업로드와 해시는 트랜잭션(커넥션) 밖에서 끝내고 저장만 짧은 트랜잭션으로 실행한다
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Member register(AuthRequestDTO.RegisterReqDTO registerReqDTO, MultipartFile profileImage) {
         // 파일 업로드
         String imageUrl = awsS3Service.uploadSingleFile(profileImage);
 
         // 회원 정보 생성
-        Member newMember = AuthConverter.toMember(registerReqDTO);
+        Member newMember = AuthConverter.toMember(registerReqDTO, passwordHasher.hash(registerReqDTO.getPassword()));
         newMember.setProfileImg(imageUrl);
 
         // 회원 정보 저장
@@ -153,7 +162,10 @@ public class AuthQueryServiceImpl implements AuthQueryService {
         }
     }
 
+    // 해시 비교는 해시 풀에서 대기할 수 있으므로 트랜잭션(커넥션) 밖에서 수행하고,
+    // 조회와 해시 교체는 각각 짧은 트랜잭션으로 실행한다
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO.LoginResDTO login(AuthRequestDTO.LoginReqDTO request) {
         Optional<Member> memberOptional = userRepository.findByUserId(request.getUserId());
 
@@ -165,19 +177,19 @@ public class AuthQueryServiceImpl implements AuthQueryService {
         Member member = memberOptional.get();
 
         // 비밀번호를 잘못 입력한 경우
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), member.getPassword())) {
             throw new GeneralException(ErrorStatus.PASSWORD_ERROR);
         }
-
-        String accessToken = jwtUtils.createToken(member.getEmail(), JwtUtils.TOKEN_VALID_TIME);
-        String refreshToken = redisUtils.getData("RT:" + member.getEmail());
-
-        if (refreshToken == null) {
-            // refreshToken이 존재하지 않는다면 설정해줘야함
-            String newRefreshToken = jwtUtils.createToken(member.getEmail(), JwtUtils.REFRESH_TOKEN_VALID_TIME);
-            redisUtils.setDataExpire("RT:" + member.getEmail(), newRefreshToken, JwtUtils.REFRESH_TOKEN_VALID_TIME_IN_REDIS);
-            refreshToken = newRefreshToken;
+        // 이전 강도로 저장된 해시는 평문을 아는 지금 새 강도로 바꿔 둔다
+        if (passwordHasher.needsUpgrade(member.getPassword())) {
+            userRepository.replacePassword(member.getId(), member.getPassword(), passwordHasher.hash(request.getPassword()));
         }
+
+        // 로그인마다 새 계열을 만들어 기기별로 RefreshToken 을 따로 유지한다
+        Long schoolId = member.getSchool() != null ? member.getSchool().getId() : null;
+        String sessionId = JwtUtils.newTokenId();
+        String accessToken = jwtUtils.createToken(member.getEmail(), member.getId(), schoolId, sessionId, null, JwtUtils.TOKEN_VALID_TIME);
+        String refreshToken = startSession(member.getEmail(), member.getId(), schoolId, sessionId);
         String userid = member.getUserId();
 
         return AuthResponseDTO.LoginResDTO.builder()
@@ -189,24 +201,23 @@ public class AuthQueryServiceImpl implements AuthQueryService {
                 .build();
     }
 
+    // 조회 -> 해시 비교/계산(트랜잭션 밖) -> 조회한 해시가 그대로일 때만 짧은 update 로 교체
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Boolean changePassword(AuthRequestDTO.ChangePasswordReqDTO request) {
         String email = jwtUtils.getEmailInToken(request.getToken());
         Member member = userRepository.findByEmail(email).orElseThrow(() -> {
             throw new GeneralException(ErrorStatus.MEMBER_NOT_FOUND);
         });
         //기존 비밀번호와 일치하는지 확인 후 맞을 시 변경
-        if (passwordEncoder.matches(request.getCurrentPassword(), member.getPassword())) {
-            member.changePassword(passwordEncoder.encode(request.getChangePassword()));
-            userRepository.save(member);
-            return true;
-        } else {
+        if (!passwordHasher.matches(request.getCurrentPassword(), member.getPassword())) {
             return false;
         }
+        String newPassword = passwordHasher.hash(request.getChangePassword());
+        return userRepository.replacePassword(member.getId(), member.getPassword(), newPassword) == 1;
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public Boolean findPasswd(AuthRequestDTO.FindPwRequest request) {
         Member member = userRepository.findByEmail(request.getEmail()).orElseThrow(() -> {
@@ -223,17 +234,8 @@ public class AuthQueryServiceImpl implements AuthQueryService {
             throw new GeneralException(ErrorStatus.EMAIL_CODE_ERROR);
         }
 //        String encryptedPassword = new BCryptPasswordEncoder().encode(request.getPassword());
-        member.changePassword(passwordEncoder.encode(request.getPassword()));
-        userRepository.save(member);
-
-        if (passwordEncoder.matches(request.getPassword(), member.getPassword())) {
-            System.out.println("비밀번호가 성공적으로 변경되었습니다.");
-        } else {
-            System.out.println("비밀번호 변경 실패");
-            return false;
-        }
-
-        return true;
+        String newPassword = passwordHasher.hash(request.getPassword());
+        return userRepository.replacePassword(member.getId(), member.getPassword(), newPassword) == 1;
     }
 
     @Override
@@ -257,24 +259,65 @@ public class AuthQueryServiceImpl implements AuthQueryService {
     @Override
     public AuthResponseDTO.ReissueRespDto reissue(String refreshToken) {
         String resolvedToken = jwtUtils.resolveToken(refreshToken);
-        String email = jwtUtils.getEmailInToken(resolvedToken);
-        String savedRefreshToken = redisUtils.getData("RT:" + email);
-//        log.info("savedRefreshToken : "+savedRefreshToken);
-//        log.info("RefreshToken : "+resolvedToken);
-        if (refreshToken.isEmpty() || !resolvedToken.equals(savedRefreshToken)) {
+        if (resolvedToken.isEmpty()) {
             throw new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN);
+        }
+        Claims claims = jwtUtils.parseToken(resolvedToken);
+        String email = claims.get("email", String.class);
+        String sessionId = claims.get(JwtUtils.SESSION_ID_CLAIM, String.class);
+        String tokenId = claims.getId();
+
+        String newRefreshToken;
+        AuthMember authMember;
+        if (sessionId == null || tokenId == null) {
+            // 계열이 없는 이전 RefreshToken(RT:{email})은 확인 후 새 계열로 옮긴다
+            if (!resolvedToken.equals(redisUtils.getData("RT:" + email))) {
+                throw new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN);
+            }
+            redisUtils.deleteData("RT:" + email);
+            authMember = authMember(claims, email);
+            sessionId = JwtUtils.newTokenId();
+            newRefreshToken = startSession(email, authMember.getMemberId(), authMember.getSchoolId(), sessionId);
         } else {
-            String newAccessToken = jwtUtils.createToken(email, JwtUtils.TOKEN_VALID_TIME);
-            String newRefreshToken = jwtUtils.createToken(email, JwtUtils.REFRESH_TOKEN_VALID_TIME);
-            redisUtils.setDataExpire("RT:" + email, newRefreshToken, JwtUtils.REFRESH_TOKEN_VALID_TIME_IN_REDIS);
-            String getToken = redisUtils.getData("RT:" + email);
-
-            return AuthResponseDTO.ReissueRespDto.builder()
-                    .newAccessToken(newAccessToken)
-                    .newRefreshToken(newRefreshToken)
-                    .accessTokenExpirationTime(JwtUtils.TOKEN_VALID_TIME)
-                    .build();
+            String newTokenId = JwtUtils.newTokenId();
+            long result = refreshTokenRepository.rotate(sessionId, tokenId, newTokenId, REFRESH_TOKEN_TTL);
+            if (result == RefreshTokenRepository.REUSED) {
+                // 이미 교체된 토큰이 다시 쓰였으면 탈취로 보고 해당 기기의 AccessToken 도 모두 끊는다
+                tokenBlacklist.revokeSession(sessionId);
+                throw new GeneralException(ErrorStatus.REFRESH_TOKEN_REUSED);
+            }
+            if (result != RefreshTokenRepository.ROTATED) {
+                throw new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN);
+            }
+            authMember = authMember(claims, email);
+            newRefreshToken = jwtUtils.createToken(email, authMember.getMemberId(), authMember.getSchoolId(),
+                    sessionId, newTokenId, JwtUtils.REFRESH_TOKEN_VALID_TIME);
+        }
+        String newAccessToken = jwtUtils.createToken(email, authMember.getMemberId(), authMember.getSchoolId(),
+                sessionId, null, JwtUtils.TOKEN_VALID_TIME);
+
+        return AuthResponseDTO.ReissueRespDto.builder()
+                .newAccessToken(newAccessToken)
+                .newRefreshToken(newRefreshToken)
+                .accessTokenExpirationTime(JwtUtils.TOKEN_VALID_TIME)
+                .build();
+    }
+
+    // 새 로그인 계열을 만들고 첫 RefreshToken 을 발급
+    private String startSession(String email, Long memberId, Long schoolId, String sessionId) {
+        String tokenId = JwtUtils.newTokenId();
+        refreshTokenRepository.create(memberId, sessionId, tokenId, REFRESH_TOKEN_TTL);
+        return jwtUtils.createToken(email, memberId, schoolId, sessionId, tokenId, JwtUtils.REFRESH_TOKEN_VALID_TIME);
+    }
+
+    // 클레임이 없는 이전 토큰이면 회원을 한 번 조회해 채운다
+    private AuthMember authMember(Claims claims, String email) {
+        AuthMember authMember = AuthMember.from(claims);
+        if (authMember != null) {
+            return authMember;
         }
+        return AuthMember.from(userRepository.findByEmail(email)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND)));
     }
 
     public List<AuthResponseDTO.SchoolResDTO> searchSchool(String schoolName) {
@@ -0,0 +1,304 @@
+package com.example.school.auth.service;
+
+import com.example.school.auth.repository.MailOutboxRepository;
+import com.example.school.domain.MailOutbox;
+import com.example.school.domain.enums.MailStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 메일 발송함(MailOutbox) 처리
+// 발송 시각이 된 메일을 주기적으로 가져와 조건부 update 로 임대한 뒤, 고정 크기 스레드 풀에서 발송한다.
+// 같은 도메인의 메일은 CHUNK 단위로 묶어 SMTP 연결 하나로 보내고,
+// 실패하면 지수 백오프로 다시 시도하다가 maxAttempts 를 넘으면 FAILED 로 남긴다.
+// 도메인별 발송 속도는 서버마다 토큰 버킷으로 제한한다 (버킷이 비면 다음 조회까지 임대하지 않음).
+// 버킷이 빈 도메인의 메일은 건너뛰고 다음 묶음을 이어 읽어, 한 도메인에 밀린 메일이 다른 도메인 발송을 막지 않게 한다.
+// 임대는 한 CHUNK 를 보내는 최대 시간(chunkSize x 발송 타임아웃) 이상으로 잡고, 대기열에서 기다린 만큼 보내기 직전에 다시 연장한다.
+// 발송이 끝난 메일은 본문에 인증번호가 남으므로 보관 기간(retention-hours)이 지나면 지운다.
+@Slf4j
+@Service
+public class MailOutboxWorker {
+    private static final long MAX_BACKOFF_MILLIS = 60 * 60 * 1000L;
+    private static final int ERROR_LENGTH = 500;
+    private static final int MAX_SCAN_PAGES = 5;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final LocalDateTime SCAN_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final String from;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final Duration lease;
+    private final Duration retention;
+    private final double domainRatePerSecond;
+    private final int domainBurst;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+    private final Timer sendTimer;
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender, MeterRegistry meterRegistry,
+                            @Value("${mail.outbox.from:5959kop@naver.com}") String from,
+                            @Value("${mail.outbox.batch-size:50}") int batchSize,
+                            @Value("${mail.outbox.chunk-size:20}") int chunkSize,
+                            @Value("${mail.outbox.workers:4}") int workers,
+                            @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                            @Value("${mail.outbox.retry-base-ms:5000}") long retryBaseMillis,
+                            @Value("${mail.outbox.lease-seconds:120}") long leaseSeconds,
+                            @Value("${mail.outbox.send-timeout-ms:10000}") long sendTimeoutMillis,
+                            @Value("${mail.outbox.retention-hours:24}") long retentionHours,
+                            @Value("${mail.outbox.domain-rate-per-second:2}") double domainRatePerSecond,
+                            @Value("${mail.outbox.domain-burst:10}") int domainBurst) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        // 묶음의 메일마다 SMTP 타임아웃(mail.smtp.timeout/writetimeout 과 맞출 것)까지 걸려도 임대가 끝나지 않게 (+1 은 연결)
+        this.lease = Duration.ofSeconds(Math.max(leaseSeconds, Duration.ofMillis(sendTimeoutMillis * (chunkSize + 1L)).toSeconds()));
+        this.retention = Duration.ofHours(retentionHours);
+        this.domainRatePerSecond = domainRatePerSecond;
+        this.domainBurst = domainBurst;
+        // 한 번 조회한 묶음이 모두 대기열에 들어갈 수 있는 크기 (대기열이 비었을 때만 새로 조회)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), new CustomizableThreadFactory("mail-outbox-"));
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.throttledCounter = meterRegistry.counter("mail.outbox.throttled");
+        this.sendTimer = meterRegistry.timer("mail.outbox.send");
+        Gauge.builder("mail.outbox.in-flight", executor, e -> e.getActiveCount() + e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!executor.getQueue().isEmpty() || executor.isShutdown()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 연장할 때 같은 값으로 비교하므로 DB 컬럼 정밀도와 상관없도록 초 단위로 자른다
+        LocalDateTime leaseUntil = leaseUntil(now);
+        Map<String, List<MailOutbox>> byDomain = new LinkedHashMap<>();
+        Set<String> throttled = new HashSet<>();
+        int claimed = 0;
+        LocalDateTime cursorAt = SCAN_START;
+        Long cursorId = 0L;
+        // 임대한 메일이 batchSize 에 닿거나, 더 읽을 메일이 없거나, MAX_SCAN_PAGES 묶음을 읽을 때까지
+        for (int page = 0; page < MAX_SCAN_PAGES && claimed < batchSize; page++) {
+            List<MailOutbox> due = mailOutboxRepository.findDue(MailStatus.PENDING, now, cursorAt, cursorId, PageRequest.of(0, batchSize));
+            for (MailOutbox mail : due) {
+                if (claimed >= batchSize) {
+                    break;
+                }
+                String domain = mail.domain();
+                if (throttled.contains(domain)) {
+                    continue;
+                }
+                TokenBucket bucket = bucket(domain);
+                if (!bucket.tryAcquire()) {
+                    throttled.add(domain);
+                    throttledCounter.increment();
+                    continue;
+                }
+                // 다른 서버가 먼저 임대했으면 토큰을 돌려주고 건너뜀
+                if (mailOutboxRepository.claim(mail.getId(), MailStatus.PENDING, now, leaseUntil) == 1) {
+                    byDomain.computeIfAbsent(domain, key -> new ArrayList<>()).add(mail);
+                    claimed++;
+                } else {
+                    bucket.refund();
+                }
+            }
+            if (due.size() < batchSize) {
+                break;
+            }
+            MailOutbox last = due.get(due.size() - 1);
+            cursorAt = last.getNextAttemptAt();
+            cursorId = last.getId();
+        }
+
+        byDomain.values().forEach(mails -> {
+            for (int i = 0; i < mails.size(); i += chunkSize) {
+                List<MailOutbox> chunk = mails.subList(i, Math.min(i + chunkSize, mails.size()));
+                executor.execute(() -> sendTimer.record(() -> send(chunk, leaseUntil)));
+            }
+        });
+    }
+
+    // 묶음 전체를 SMTP 연결 하나로 보낸다
+    // 대기열에서 기다리는 동안 줄어든 임대를 먼저 연장하고, 그 사이 임대가 만료되어 하나라도 놓쳤으면 보내지 않는다
+    // (다른 서버가 가져간 메일은 그 서버가, 연장된 메일은 임대가 끝난 뒤 다시 임대되어 발송됨)
+    void send(List<MailOutbox> mails, LocalDateTime leaseUntil) {
+        List<Long> ids = mails.stream().map(MailOutbox::getId).toList();
+        LocalDateTime renewedUntil = leaseUntil(LocalDateTime.now());
+        if (renewedUntil.isAfter(leaseUntil) && mailOutboxRepository.renew(ids, leaseUntil, renewedUntil) < ids.size()) {
+            log.warn("메일 임대 만료 - ID {}, 발송 건너뜀", ids);
+            return;
+        }
+        List<MailOutbox> built = new ArrayList<>(mails.size());
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+        for (MailOutbox mail : mails) {
+            try {
+                messages.add(toMessage(mail));
+                built.add(mail);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 다시 시도해도 실패하므로 바로 종료
+                fail(mail, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Long> sent = new ArrayList<>(built.size());
+        try {
+            javaMailSender.send(messages.toArray(MimeMessage[]::new));
+            built.forEach(mail -> sent.add(mail.getId()));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (int i = 0; i < built.size(); i++) {
+                Exception cause = failed.get(messages.get(i));
+                if (cause == null && !failed.isEmpty()) {
+                    sent.add(built.get(i).getId());
+                } else {
+                    retry(built.get(i), cause != null ? cause : e);
+                }
+            }
+        } catch (MailException e) {
+            built.forEach(mail -> retry(mail, e));
+        }
+
+        if (!sent.isEmpty()) {
+            mailOutboxRepository.markSent(sent, LocalDateTime.now());
+            sentCounter.increment(sent.size());
+        }
+    }
+
+    private MimeMessage toMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody());
+        return message;
+    }
+
+    // 임대할 때 attempts 가 1 늘었으므로 이번 시도까지 포함한 횟수는 getAttempts() + 1
+    private void retry(MailOutbox mail, Exception cause) {
+        int attempts = mail.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            fail(mail, cause);
+            return;
+        }
+        long backoff = Math.min(retryBaseMillis << Math.min(attempts - 1, 20), MAX_BACKOFF_MILLIS);
+        mailOutboxRepository.markFailed(mail.getId(), MailStatus.PENDING, LocalDateTime.now().plus(Duration.ofMillis(backoff)), error(cause));
+        retriedCounter.increment();
+        log.info("메일 발송 실패 - ID {}, {}번째 시도, {}ms 후 재시도", mail.getId(), attempts, backoff);
+    }
+
+    private void fail(MailOutbox mail, Exception cause) {
+        mailOutboxRepository.markFailed(mail.getId(), MailStatus.FAILED, LocalDateTime.now(), error(cause));
+        failedCounter.increment();
+        log.warn("메일 발송 중단 - ID {}, 받는 사람 {}", mail.getId(), mail.getRecipient(), cause);
+    }
+
+    private String error(Exception cause) {
+        String message = String.valueOf(cause.getMessage());
+        return message.length() > ERROR_LENGTH ? message.substring(0, ERROR_LENGTH) : message;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.purge-interval-ms:600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = mailOutboxRepository.deleteFinished(before, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("발송이 끝난 메일 {}건 삭제 ({} 이전)", total, before);
+        }
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plus(lease).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private TokenBucket bucket(String domain) {
+        return buckets.computeIfAbsent(domain, key -> new TokenBucket(domainBurst, domainRatePerSecond));
+    }
+
+    // 임대한 메일은 종료 후 임대가 만료되면 다시 발송된다
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    static class TokenBucket {
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1e9;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
@@ -3,124 +3,95 @@ package com.example.school.auth.service;
 import com.example.school.apiPayload.ApiResponse;
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
-import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.repository.MailOutboxRepository;
+import com.example.school.auth.repository.VerificationCodeRepository;
+import com.example.school.domain.MailOutbox;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.mail.Message;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 
+import java.time.Duration;
 import java.util.UUID;
 
+@Slf4j
 @Service
 public class MailService {
 
-    private final JavaMailSender javaMailSender;
-    private final RedisUtils redisUtils;
+    private static final String SUBJECT = "지금 우리 학교는 인증 번호입니다.";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final VerificationCodeRepository verificationCodeRepository;
+    private final Duration codeTtl;
+    private final int maxIssues;
+    private final Duration issueWindow;
+    private final int maxAttempts;
+    private final Duration lockout;
 
     @Autowired
-    public MailService(JavaMailSender javaMailSender, RedisUtils redisUtils )
+    public MailService(MailOutboxRepository mailOutboxRepository, VerificationCodeRepository verificationCodeRepository,
+                       @Value("${auth.email-code.ttl-seconds:180}") long codeTtlSeconds,
+                       @Value("${auth.email-code.max-issues:5}") int maxIssues,
+                       @Value("${auth.email-code.issue-window-seconds:3600}") long issueWindowSeconds,
+                       @Value("${auth.email-code.max-attempts:5}") int maxAttempts,
+                       @Value("${auth.email-code.lockout-seconds:900}") long lockoutSeconds)
     {
-        this.javaMailSender = javaMailSender;
-        this.redisUtils = redisUtils;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.codeTtl = Duration.ofSeconds(codeTtlSeconds);
+        this.maxIssues = maxIssues;
+        this.issueWindow = Duration.ofSeconds(issueWindowSeconds);
+        this.maxAttempts = maxAttempts;
+        this.lockout = Duration.ofSeconds(lockoutSeconds);
     }
 
-    private MimeMessage createMessage(String code, String email) throws Exception {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        System.out.println("Email address: " + email);
-        message.addRecipients(Message.RecipientType.TO, email);
-        message.setSubject("지금 우리 학교는 인증 번호입니다.");
-        message.setText("이메일 인증코드: " + code);
-
-        message.setFrom("5959kop@naver.com"); // 보내는 사람.
-
-        return message;
+    // 요청 스레드에서는 발송함에 저장만 하고 SMTP 발송은 MailOutboxWorker 가 맡는다
+    public void sendMail(String code, String email) {
+        mailOutboxRepository.save(MailOutbox.of(email, SUBJECT, "이메일 인증코드: " + code));
     }
 
-    public void sendMail(String code, String email) throws Exception{
-
+    // 이메일마다 issue-window 동안 max-issues 번까지 발급, 인증이 잠긴 동안은 발급하지 않음
+    public void sendCertificationMail(String email)  throws GeneralException {
+        String code = UUID.randomUUID().toString().substring(0, 6); //랜덤 인증번호 uuid를 이용!
+        long issued;
         try{
-            MimeMessage mimeMessage = createMessage(code, email);
-            javaMailSender.send(mimeMessage);
-        }catch (MailException mailException){
-            mailException.printStackTrace();
-            throw   new IllegalAccessException();
-        }
-    }
-
-    public String sendCertificationMail(String email)  throws GeneralException {
-
-        try{
-            String code = UUID.randomUUID().toString().substring(0, 6); //랜덤 인증번호 uuid를 이용!
-            sendMail(code,email);
-
-            redisUtils.setDataExpire(email,code,60*3L); // {key,value} 3분동안 저장.
-
-            // 추가된 로깅
-            System.out.println("Data stored in Redis - Email: " + email + ", Code: " + code);
-
-            return  code;
-        }catch (Exception exception){
-            exception.printStackTrace();
+            issued = verificationCodeRepository.issue(email, code, codeTtl, maxIssues, issueWindow, maxAttempts);
+        }catch (DataAccessException exception){
+            log.warn("인증번호 저장 실패 - {}", email, exception);
             throw new GeneralException(ErrorStatus.REDIS_ERROR);
         }
-    }
+        if (issued == VerificationCodeRepository.LOCKED) {
+            throw new GeneralException(ErrorStatus.EMAIL_CODE_LOCKED);
+        }
+        if (issued != VerificationCodeRepository.ISSUED) {
+            throw new GeneralException(ErrorStatus.EMAIL_SEND_LIMIT);
+        }
 
-//    public void verifyCertificationCode(String email, String authCode) throws GeneralException {
-//        try {
-//            System.out.println("Before fetching code - Email: " + email);
-//            System.out.println(authCode);
-//            String storedCode = redisUtils.getData(email);
-//            System.out.println("Fetched code - Email: " + email + ", Code: " + storedCode);
-//
-//            if (storedCode == null || !storedCode.equals(authCode)) {
-//                throw new RuntimeException("인증번호가 일치하지 않습니다.");
-//            }
-//
-//            // 인증 성공 시 해당 이메일의 Redis 데이터 삭제
-//            redisUtils.deleteData(email);
-//
-//            // 추가된 로깅
-//            System.out.println("Verification successful - Email: " + email);
-//
-//        } catch (Exception exception) {
-//            exception.printStackTrace();
-//            throw new GeneralException(ErrorStatus.REDIS_ERROR);
-//        }
-//    }
+        sendMail(code,email);
+    }
 
+    // 확인과 삭제를 한 번에 수행 (성공한 인증번호는 다시 쓸 수 없음)
+    // max-attempts 번 틀리면 인증번호를 지우고 lockout 동안 잠근다
     public Boolean verifyCertificationCode(String email, String authCode) {
+        if (email == null || authCode == null) {
+            return false;
+        }
+        long result;
         try {
-            System.out.println("Before fetching code - Email: " + email);
-            System.out.println(authCode);
-            String storedCode = redisUtils.getData(email);
-            System.out.println("Fetched code - Email: " + email + ", Code: " + storedCode);
-
-            if (storedCode == null || !storedCode.equals(authCode)) {
-                // If authentication fails, return false
-                return false;
-            }
-
-            // If authentication is successful, delete Redis data for the email
-            redisUtils.deleteData(email);
-
-            // added logging
-            System.out.println("Verification successful - Email: " + email);
-
-            // Return true for successful verification
-            return true;
-
-        } catch (Exception exception) {
-            exception.printStackTrace();
-            // In case of any exception, return false
+            result = verificationCodeRepository.verify(email, authCode, maxAttempts, lockout);
+        } catch (DataAccessException exception) {
+            log.warn("인증번호 확인 실패 - {}", email, exception);
             return false;
         }
+        if (result == VerificationCodeRepository.LOCKED) {
+            throw new GeneralException(ErrorStatus.EMAIL_CODE_LOCKED);
+        }
+        return result == VerificationCodeRepository.VERIFIED;
     }
-}
\ No newline at end of file
+}
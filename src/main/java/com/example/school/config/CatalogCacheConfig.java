@@ -0,0 +1,20 @@
+package com.example.school.config;
+
+import com.example.school.facility.service.CatalogCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class CatalogCacheConfig {
+    // 다른 서버에서 발행한 카탈로그 캐시 삭제 수신
+    @Bean
+    public RedisMessageListenerContainer catalogCacheListenerContainer(RedisConnectionFactory redisConnectionFactory, CatalogCache catalogCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(catalogCache, new ChannelTopic(CatalogCache.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.school.config;
+
+import com.example.school.auth.config.util.JwtUtils;
+import com.example.school.auth.config.AuthMember;
+import com.example.school.auth.config.util.TokenBlacklist;
+import com.example.school.domain.Member;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+// STOMP CONNECT 시 Authorization 헤더의 JWT로 회원을 확인하고,
+// 세션 사용자 이름을 회원 ID로 지정한다 (convertAndSendToUser 대상)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private final JwtUtils jwtUtils;
+    private final TokenBlacklist tokenBlacklist;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String token = jwtUtils.resolveToken(accessor.getFirstNativeHeader("Authorization"));
+        if (token.isEmpty()) {
+            return message;
+        }
+        try {
+            Claims claims = jwtUtils.parseToken(token);
+            AuthMember authMember = AuthMember.from(claims);
+            if (jwtUtils.isRefreshToken(claims) || tokenBlacklist.isRevoked(claims, token)) {
+                log.info("logout token on stomp connect");
+                return message;
+            }
+            // 회원 클레임이 없는 이전 토큰만 회원을 조회
+            if (authMember == null) {
+                Authentication authentication = jwtUtils.getAuthentication(token);
+                if (authentication != null && authentication.getPrincipal() instanceof Member member) {
+                    authMember = AuthMember.from(member);
+                }
+            }
+            if (authMember != null) {
+                accessor.setUser(new MemberPrincipal(String.valueOf(authMember.getMemberId())));
+            }
+        } catch (JwtException e) {
+            log.info("invalid token on stomp connect");
+        }
+        return message;
+    }
+
+    private record MemberPrincipal(String name) implements Principal {
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package com.example.school.config;
 
+import com.example.school.reservation.service.AlertRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,12 +17,48 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    // simple: 서버 내장 브로커 (단일 서버, 테스트용)
+    // relay: 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 중계
+    // redis: 내장 브로커 + Redis pub/sub 으로 서버 간 알림 전달 (AlertRelay)
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+    @Value("${websocket.relay.host:localhost}")
+    private String relayHost;
+    @Value("${websocket.relay.port:61613}")
+    private int relayPort;
+    @Value("${websocket.relay.login:guest}")
+    private String relayLogin;
+    @Value("${websocket.relay.passcode:guest}")
+    private String relayPasscode;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // 회원별 알림은 /user/queue/alert 구독
+        if ("relay".equals(brokerMode)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 다른 서버에 연결된 회원의 세션 정보를 공유
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
     }
 
     @Override
@@ -22,4 +67,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/stomp").setAllowedOrigins("*").withSockJS();
 
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer alertRelayListenerContainer(RedisConnectionFactory redisConnectionFactory, AlertRelay alertRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(alertRelay, new ChannelTopic(AlertRelay.CHANNEL));
+        return container;
+    }
 }
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_announcement_school_created", columnList = "school_id, created_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_announcement_school_hash", columnNames = {"school_id", "content_hash"}))
 @Getter
 @Builder @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
 public class Announcement extends BaseEntity {
@@ -24,4 +26,8 @@ public class Announcement extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "school_id")
     private School school;
+
+    // 제목/유형/내용의 SHA-256 (수집 시 중복 판단, 해시 추가 전부터 있던 중복 행은 dup:{id})
+    @Column(length = 64)
+    private String contentHash;
 }
@@ -1,5 +1,6 @@
 package com.example.school.domain;
 
+import com.example.school.facility.event.FacilityEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(FacilityEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
 @Builder
@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_faq_type_created", columnList = "type, created_at"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
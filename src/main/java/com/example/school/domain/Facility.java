@@ -3,6 +3,7 @@ package com.example.school.domain;
 import com.example.school.domain.common.BaseEntity;
 import com.example.school.domain.enums.FacilityKeyword;
 import com.example.school.domain.enums.FacilityTag;
+import com.example.school.facility.event.FacilityEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(FacilityEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
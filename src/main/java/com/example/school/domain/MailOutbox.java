@@ -0,0 +1,57 @@
+package com.example.school.domain;
+
+import com.example.school.domain.common.BaseEntity;
+import com.example.school.domain.enums.MailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 발송 대기 메일 (요청 스레드는 저장만 하고 MailOutboxWorker 가 발송)
+// 발송 중인 메일은 nextAttemptAt 을 임대 만료 시각으로 미뤄 두므로, 서버가 중단되면 만료 후 다시 발송된다.
+@Entity
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@Builder @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+public class MailOutbox extends BaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static MailOutbox of(String recipient, String subject, String body) {
+        return MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 받는 주소의 도메인 (도메인별 발송 속도 제한 단위)
+    public String domain() {
+        int at = recipient.lastIndexOf('@');
+        return at < 0 ? "" : recipient.substring(at + 1).toLowerCase();
+    }
+}
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -13,6 +16,11 @@ import java.util.Set;
 
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_facility_start_end", columnList = "facility_id, start_at, end_at"),
+        @Index(name = "idx_reservation_member_start", columnList = "member_id, start_at"),
+        @Index(name = "idx_reservation_member_created", columnList = "member_id, created_at")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -43,6 +51,16 @@ public class Reservation extends BaseEntity {
     private Integer end_time;
     private Integer duration;
     private Boolean back;
+
+    // year/month/day, start_time/end_time 을 타입 있는 값으로 옮긴 컬럼 (범위 조회용 인덱스)
+    private LocalDate reservationDate;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    // 위 컬럼을 마지막으로 계산(또는 조회)했을 때의 문자열 날짜/시간
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String scheduleSource;
   //  @ElementCollection
    // @CollectionTable(name = "reservation_alerts", joinColumns = @JoinColumn(name = "reservation_id"))
     @Enumerated(EnumType.STRING)
@@ -61,8 +79,39 @@ public class Reservation extends BaseEntity {
         this.facility = facility;
         facility.getReservationList().add(this);
     }
-
-
-
-
+    @PostLoad
+    void rememberSchedule(){
+        this.scheduleSource = scheduleSource();
+    }
+    // 문자열 날짜와 시간으로 날짜/시작/종료 시각을 채운다
+    // 문자열이 바뀌지 않았으면 다시 계산하지 않고, 변환할 수 없는 기존 행은 예외 대신 컬럼을 비워 둔다 (반납/연장 저장이 막히지 않도록)
+    @PrePersist
+    @PreUpdate
+    public void applySchedule(){
+        String source = scheduleSource();
+        if (reservationDate != null && source.equals(scheduleSource)) {
+            return;
+        }
+        this.scheduleSource = source;
+        if (start_time == null || end_time == null) {
+            clearSchedule();
+            return;
+        }
+        try {
+            LocalDate date = LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+            this.reservationDate = date;
+            this.startAt = date.atStartOfDay().plusHours(start_time);
+            this.endAt = date.atStartOfDay().plusHours(end_time);
+        } catch (NumberFormatException | DateTimeException e) {
+            clearSchedule();
+        }
+    }
+    private String scheduleSource(){
+        return year + "-" + month + "-" + day + " " + start_time + "~" + end_time;
+    }
+    private void clearSchedule(){
+        this.reservationDate = null;
+        this.startAt = null;
+        this.endAt = null;
+    }
 }
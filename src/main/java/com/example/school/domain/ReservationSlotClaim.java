@@ -0,0 +1,40 @@
+package com.example.school.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 예약이 점유한 시설물-날짜-시간(1시간 단위) 한 칸
+// (facility_id, reservation_date, slot_hour) 유니크 키로 Redis 점유가 빠져도 DB 에서 겹치는 예약을 막는다.
+// 시설물 전체를 잠그지 않으므로 겹치지 않는 시간대의 예약은 동시에 진행된다.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_slot_claim_facility_date_hour", columnNames = {"facility_id", "reservation_date", "slot_hour"}),
+        indexes = @Index(name = "idx_slot_claim_reservation", columnList = "reservation_id"))
+@Getter
+@Builder @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+public class ReservationSlotClaim {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "facility_id", nullable = false)
+    private Long facilityId;
+
+    @Column(name = "reservation_date", nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(name = "slot_hour", nullable = false)
+    private int slotHour;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    public static ReservationSlotClaim of(Reservation reservation, int slotHour) {
+        return ReservationSlotClaim.builder()
+                .facilityId(reservation.getFacility().getId())
+                .reservationDate(reservation.getReservationDate())
+                .slotHour(slotHour)
+                .reservationId(reservation.getId())
+                .build();
+    }
+}
@@ -7,6 +7,11 @@ import lombok.*;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_review_facility_created", columnList = "facility_id, created_at"),
+        @Index(name = "idx_review_created", columnList = "created_at")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,4 +16,8 @@ public class SearchRank {
 
     @ManyToOne(fetch = FetchType.LAZY)
     private School school;
+
+    public void changeValue(String value){
+        this.value = value;
+    }
 }
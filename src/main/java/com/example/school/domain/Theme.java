@@ -1,6 +1,7 @@
 package com.example.school.domain;
 
 import com.example.school.domain.common.BaseEntity;
+import com.example.school.facility.event.FacilityEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(FacilityEntityListener.class)
 @Getter
 @Builder @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
 public class Theme extends BaseEntity {
@@ -0,0 +1,7 @@
+package com.example.school.domain.enums;
+
+public enum MailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
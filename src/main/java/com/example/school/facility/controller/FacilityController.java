@@ -1,16 +1,17 @@
 package com.example.school.facility.controller;
 
 import com.example.school.apiPayload.ApiResponse;
-import com.example.school.domain.Member;
+import com.example.school.auth.config.AuthMember;
 import com.example.school.facility.dto.FacilityResponseDTO;
+import com.example.school.facility.service.AutocompleteService;
 import com.example.school.facility.service.FacilityQueryService;
 import com.example.school.facility.service.FacilityService;
 import com.example.school.facility.service.LibraryService;
+import com.example.school.facility.service.RecentSearchService;
 import com.example.school.validation.annotation.CheckKeyword;
 import com.example.school.validation.annotation.CheckPage;
 import com.example.school.validation.annotation.ExistKeyword;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 
@@ -20,38 +21,33 @@ public class FacilityController {
     private final FacilityService facilityService;
     private final FacilityQueryService facilityQueryService;
     private final LibraryService libraryService;
+    private final AutocompleteService autocompleteService;
+    private final RecentSearchService recentSearchService;
 
     @GetMapping("/category/theme")
-    public ApiResponse<FacilityResponseDTO.ListByTheme> getListByTheme(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.ListByTheme res = facilityService.getListByTheme(member.getId());
+    public ApiResponse<FacilityResponseDTO.ListByTheme> getListByTheme(AuthMember authMember){
+        FacilityResponseDTO.ListByTheme res = facilityService.getListByTheme(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/category/building")
-    public ApiResponse<FacilityResponseDTO.ListByBuilding> getListByBuilding(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-        FacilityResponseDTO.ListByBuilding res = facilityService.getListByBuilding(member.getId());
+    public ApiResponse<FacilityResponseDTO.ListByBuilding> getListByBuilding(AuthMember authMember){
+        FacilityResponseDTO.ListByBuilding res = facilityService.getListByBuilding(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/map")
-    public ApiResponse<FacilityResponseDTO.Markers> getMarkers(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.Markers res = facilityService.getMarkers(member.getId());
+    public ApiResponse<FacilityResponseDTO.Markers> getMarkers(AuthMember authMember){
+        FacilityResponseDTO.Markers res = facilityService.getMarkers(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/suggestion")
-    public ApiResponse<FacilityResponseDTO.Tags> getSuggestion(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.Tags res = facilityService.getSuggestion(member.getId());
+    public ApiResponse<FacilityResponseDTO.Tags> getSuggestion(AuthMember authMember){
+        FacilityResponseDTO.Tags res = facilityService.getSuggestion(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
@@ -92,10 +88,8 @@ public class FacilityController {
 
     @GetMapping("/keyword/{keyword}")
     public ApiResponse<FacilityResponseDTO.ListByKeyword> getListByKeyword(
-            @PathVariable("keyword") @ExistKeyword String keyword, Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.ListByKeyword res = facilityQueryService.getListByKeyword(member.getId(), keyword);
+            @PathVariable("keyword") @ExistKeyword String keyword, AuthMember authMember){
+        FacilityResponseDTO.ListByKeyword res = facilityQueryService.getListByKeyword(authMember.getSchoolId(), keyword);
 
         return ApiResponse.onSuccess(res);
     }
@@ -111,49 +105,51 @@ public class FacilityController {
     public ApiResponse<FacilityResponseDTO.SearchResults> searchFacility(
             @RequestParam("query") @CheckKeyword String keyword,
             @RequestParam("page") @CheckPage Integer page,
-            Authentication auth
+            AuthMember authMember
     ){
-        Member member = (Member)auth.getPrincipal();
+        FacilityResponseDTO.SearchResults res = facilityQueryService.searchFacility(authMember.getMemberId(), authMember.getSchoolId(), keyword, page);
+
+        return ApiResponse.onSuccess(res);
+    }
 
-        FacilityResponseDTO.SearchResults res = facilityQueryService.searchFacility(member.getId(), keyword, page);
+    // 입력 중 자동완성 (검색 기록을 남기지 않음)
+    @GetMapping("/autocomplete")
+    public ApiResponse<FacilityResponseDTO.AutocompleteList> autocomplete(
+            @RequestParam("query") String query,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            AuthMember authMember
+    ){
+        FacilityResponseDTO.AutocompleteList res = autocompleteService.suggest(authMember.getSchoolId(), query, size);
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/library")
-    public ApiResponse<Object> getLibraryStatus(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.LibraryStatus res = libraryService.getLibraryStatus(member.getId());
+    public ApiResponse<Object> getLibraryStatus(AuthMember authMember){
+        FacilityResponseDTO.LibraryStatus res = libraryService.getLibraryStatus(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/search-log")
-    public ApiResponse<FacilityResponseDTO.SearchLogList> getSearchLog(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.SearchLogList res = facilityQueryService.getSearchLog(member.getId());
+    public ApiResponse<FacilityResponseDTO.SearchLogList> getSearchLog(AuthMember authMember){
+        FacilityResponseDTO.SearchLogList res = recentSearchService.getSearchLog(authMember.getMemberId());
 
         return ApiResponse.onSuccess(res);
     }
 
     @DeleteMapping("/search-log/{value}")
     public ApiResponse<FacilityResponseDTO.DeleteSearchLog> deleteSearchLog(
-            @PathVariable(name = "value")String value, Authentication auth
+            @PathVariable(name = "value")String value, AuthMember authMember
     ){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.DeleteSearchLog res = facilityService.deleteSearchLog(member.getId(), value);
+        FacilityResponseDTO.DeleteSearchLog res = recentSearchService.deleteSearchLog(authMember.getMemberId(), value);
 
         return ApiResponse.onSuccess(res);
     }
 
     @GetMapping("/search-rank")
-    public ApiResponse<FacilityResponseDTO.SearchRankList> getSearchRank(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        FacilityResponseDTO.SearchRankList res = facilityQueryService.getSearchRank(member.getId());
+    public ApiResponse<FacilityResponseDTO.SearchRankList> getSearchRank(AuthMember authMember){
+        FacilityResponseDTO.SearchRankList res = facilityQueryService.getSearchRank(authMember.getSchoolId());
 
         return ApiResponse.onSuccess(res);
     }
@@ -1,9 +1,9 @@
 package com.example.school.facility.converter;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.Facility;
 import com.example.school.domain.Reservation;
 import com.example.school.facility.dto.FacilityResponseDTO;
-import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,20 +27,19 @@ public class FacilityConverter {
                 .build();
     }
 
-    public static FacilityResponseDTO.DetailResultDTO detailResultDTO(Page<Facility> facilityList,Page<Reservation> reservationList){
-        List<FacilityResponseDTO.DetailDTO> facilityDTO = reservationList.stream()
-                .map((Reservation reservation) -> {
-                    Facility facility = reservation.getFacility();
-                    return detailDTO(facility, reservation);
-                })
+    //이용한 시설물 목록 (size+1건 조회 결과로 다음 커서 계산)
+    public static FacilityResponseDTO.DetailResultDTO detailResultDTO(List<Reservation> reservationList, int size){
+        boolean hasNext = reservationList.size() > size;
+        List<Reservation> pageReservations = hasNext ? reservationList.subList(0, size) : reservationList;
+        List<FacilityResponseDTO.DetailDTO> facilityDTO = pageReservations.stream()
+                .map(reservation -> detailDTO(reservation.getFacility(), reservation))
                 .collect(Collectors.toList());
+        String nextCursor = Cursor.next(reservationList, size, Reservation::getStartAt, Reservation::getId);
         return FacilityResponseDTO.DetailResultDTO.builder()
                 .resultList(facilityDTO)
-                .isFirst(reservationList.isFirst())
-                .isLast(reservationList.isLast())
-                .totalPage(reservationList.getTotalPages())
-                .listSize(reservationList.getSize())
-                .totalElements(reservationList.getTotalElements())
+                .listSize(facilityDTO.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 }
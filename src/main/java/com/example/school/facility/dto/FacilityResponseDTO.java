@@ -39,15 +39,18 @@ public class FacilityResponseDTO {
         Integer totalPage;
         Long totalElements;
         Boolean isFirst;
-        Boolean isLast;    }
+        Boolean isLast;
+        String nextCursor;
+        Boolean hasNext;
+    }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class ListByBuilding{
         List<BuildingWithFacilities> categories;
         int count;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class BuildingWithFacilities{
         String name;
         List<FacilityIdAndName> facilities;
@@ -61,13 +64,13 @@ public class FacilityResponseDTO {
         }
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class ListByTheme{
         List<ThemeWithFacilities> categories;
         List<FacilityIdAndExtraName> facilities;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class ThemeWithFacilities{
         String name;
         List<FacilityIdAndExtraName> facilities;
@@ -82,7 +85,7 @@ public class FacilityResponseDTO {
     }
 
 
-    @Getter
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class FacilityIdAndName{
         Long id;
         String name;
@@ -93,7 +96,7 @@ public class FacilityResponseDTO {
         }
     }
 
-    @Getter
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class FacilityIdAndExtraName{
         Long id;
         String name;
@@ -104,13 +107,13 @@ public class FacilityResponseDTO {
         }
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Markers{
         List<Marker> list;
         int count;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Marker{
         Long id;
         String label;
@@ -118,19 +121,19 @@ public class FacilityResponseDTO {
         Double longitude;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Tags{
         List<Tag> tags;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Tag{
         String tag;
         List<FacilityWithTag> facilities;
         int count;
     }
 
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class FacilityWithTag{
         Long id;
         String name;
@@ -288,7 +291,7 @@ public class FacilityResponseDTO {
         String value;
     }
 
-    @Getter
+    @Getter @AllArgsConstructor
     public static class SearchRankList {
         List<SearchRankDTO> list;
         int count;
@@ -307,6 +310,19 @@ public class FacilityResponseDTO {
         String value;
     }
 
+    @Getter @AllArgsConstructor
+    public static class AutocompleteList {
+        List<AutocompleteDTO> list;
+        int count;
+    }
+
+    @Getter @AllArgsConstructor
+    public static class AutocompleteDTO {
+        String value;
+        String type;
+        Long id;
+    }
+
     @Getter
     public static class BuildingDetail {
         Long id;
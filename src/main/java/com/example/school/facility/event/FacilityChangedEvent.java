@@ -0,0 +1,13 @@
+package com.example.school.facility.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 시설물/건물/테마 변경 알림 (facilityId 가 null 이면 학교 전체)
+@Getter
+@AllArgsConstructor
+public class FacilityChangedEvent {
+    private final Long schoolId;
+    private final Long facilityId;
+    private final boolean removed;
+}
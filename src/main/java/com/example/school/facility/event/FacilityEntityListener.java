@@ -0,0 +1,41 @@
+package com.example.school.facility.event;
+
+import com.example.school.domain.Building;
+import com.example.school.domain.Facility;
+import com.example.school.domain.Theme;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 시설물/건물/테마 엔티티 변경을 FacilityChangedEvent 로 발행
+// 실제 색인/캐시 갱신은 커밋 후 FacilitySearchService, AutocompleteService, CatalogCache 에서 처리
+@Component
+@RequiredArgsConstructor
+public class FacilityEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        publish(entity, false);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        publish(entity, true);
+    }
+
+    private void publish(Object entity, boolean removed) {
+        if (entity instanceof Facility facility && facility.getSchool() != null) {
+            eventPublisher.publishEvent(new FacilityChangedEvent(facility.getSchool().getId(), facility.getId(), removed));
+        } else if (entity instanceof Building building && building.getSchool() != null) {
+            // 건물 이름은 소속 시설물 전체의 색인에 들어가므로 학교 단위로 다시 만든다
+            eventPublisher.publishEvent(new FacilityChangedEvent(building.getSchool().getId(), null, false));
+        } else if (entity instanceof Theme theme && theme.getSchool() != null) {
+            eventPublisher.publishEvent(new FacilityChangedEvent(theme.getSchool().getId(), null, false));
+        }
+    }
+}
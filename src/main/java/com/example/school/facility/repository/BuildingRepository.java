@@ -15,6 +15,8 @@ public interface BuildingRepository extends JpaRepository<Building, Long> {
 
     List<Building> findAllBySchool(School school);
 
+    List<Building> findAllBySchoolId(Long schoolId);
+
     @Query("select b from Building b left join fetch b.buildingHours where b.id=:id")
     Optional<Building> findByIdWithBuildingHours(@Param("id") Long buildingId);
 }
@@ -4,8 +4,6 @@ import com.example.school.domain.Facility;
 import com.example.school.domain.School;
 import com.example.school.domain.enums.FacilityKeyword;
 import com.example.school.facility.dto.ScoreDTO;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,8 +19,15 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
 
     List<Facility> findByKeywordAndSchool(FacilityKeyword keyword, School school);
 
-    @Query("select f from Facility f left join fetch f.building where f.name like concat('%', :keyword, '%')and f.school=:school")
-    Page<Facility> findByNameLikeAndSchool(@Param("keyword") String keyword, @Param("school") School school, Pageable page);
+    //검색 색인용 학교 전체 시설물
+    @Query("select f from Facility f left join fetch f.building where f.school.id=:schoolId")
+    List<Facility> findAllBySchoolIdWithBuilding(@Param("schoolId") Long schoolId);
+
+    List<Facility> findAllBySchoolId(Long schoolId);
+
+    //검색 결과 페이지의 시설물 (순서는 호출 측에서 맞춤)
+    @Query("select f from Facility f left join fetch f.building where f.id in :ids")
+    List<Facility> findAllByIdWithBuilding(@Param("ids") List<Long> ids);
 
     List<Facility> findBySchoolAndIsThemeIsTrue(School school);
 
@@ -0,0 +1,70 @@
+package com.example.school.facility.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 회원별 최근 검색어 (SearchLog:{memberId}, member = 검색어, score = 검색 시각)
+@Repository
+@RequiredArgsConstructor
+public class RecentSearchRepository {
+    private static final String KEY_PREFIX = "SearchLog:";
+    // ARGV = size, ttl(초), score1, 검색어1, score2, 검색어2 ...
+    private static final byte[] ADD_SCRIPT = bytes(
+            "redis.call('ZADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[1]) - 1) " +
+            "return redis.call('EXPIRE', KEYS[1], ARGV[2])");
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void add(Long memberId, Map<String, Long> searchedAtByValue, int size, Duration ttl) {
+        add(stringRedisTemplate, memberId, searchedAtByValue, size, ttl);
+    }
+
+    // 검색어 추가, 최근 size 개만 남기기, 만료 시간 갱신을 스크립트 한 번으로 원자적으로 실행
+    // 파이프라인 안에서는 NOSCRIPT 재시도가 불가능하므로 EVALSHA 대신 EVAL 로 보낸다
+    public void add(RedisOperations<String, String> operations, Long memberId, Map<String, Long> searchedAtByValue, int size, Duration ttl) {
+        if (searchedAtByValue.isEmpty()) {
+            return;
+        }
+        List<byte[]> keysAndArgs = new ArrayList<>();
+        keysAndArgs.add(bytes(key(memberId)));
+        keysAndArgs.add(bytes(String.valueOf(size)));
+        keysAndArgs.add(bytes(String.valueOf(ttl.toSeconds())));
+        searchedAtByValue.forEach((value, searchedAt) -> {
+            keysAndArgs.add(bytes(String.valueOf(searchedAt)));
+            keysAndArgs.add(bytes(value));
+        });
+        operations.execute((RedisCallback<Object>) connection ->
+                connection.scriptingCommands().eval(ADD_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs.toArray(new byte[0][])));
+    }
+
+    // 최근 순
+    public List<String> findRecent(Long memberId, int size) {
+        Set<String> values = stringRedisTemplate.opsForZSet().reverseRange(key(memberId), 0, size - 1);
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    public boolean remove(Long memberId, String value) {
+        Long removed = stringRedisTemplate.opsForZSet().remove(key(memberId), value);
+        return removed != null && removed == 1;
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.school.facility.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 학교별 검색어 집계 (Redis sorted set, member = 검색어, score = 검색 횟수)
+// 집계 중인 키(SearchCount:{schoolId})를 반영할 때는 SearchFlush:{schoolId} 로 이름을 바꿔
+// 반영 도중 들어온 검색은 새 키에 쌓이도록 한다.
+@Repository
+@RequiredArgsConstructor
+public class SearchCountRepository {
+    private static final String COUNT_PREFIX = "SearchCount:";
+    private static final String FLUSH_PREFIX = "SearchFlush:";
+    // 이전 버전에서 검색어를 그대로 쌓던 리스트
+    private static final String LEGACY_PREFIX = "School:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void increment(Long schoolId, String value) {
+        increment(schoolId, value, 1);
+    }
+
+    public void increment(Long schoolId, String value, long count) {
+        increment(stringRedisTemplate, schoolId, value, count);
+    }
+
+    public void increment(RedisOperations<String, String> operations, Long schoolId, String value, long count) {
+        operations.opsForZSet().incrementScore(COUNT_PREFIX + schoolId, value, count);
+    }
+
+    // 아직 반영되지 않은 검색어 상위 n개
+    public Map<String, Long> findTop(Long schoolId, int n) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(COUNT_PREFIX + schoolId, 0, n - 1);
+        return toMap(tuples);
+    }
+
+    public List<Long> findSchoolIds() {
+        List<Long> schoolIds = new ArrayList<>();
+        for (String prefix : List.of(COUNT_PREFIX, FLUSH_PREFIX, LEGACY_PREFIX)) {
+            for (String key : scan(prefix + "*")) {
+                Long schoolId = Long.valueOf(key.substring(prefix.length()));
+                if (!schoolIds.contains(schoolId)) {
+                    schoolIds.add(schoolId);
+                }
+            }
+        }
+        return schoolIds;
+    }
+
+    // 집계를 반영용 키로 옮기고 그 내용을 반환한다.
+    // 이전 반영이 실패해 반영용 키가 남아 있으면 그 키를 먼저 반환한다 (removeFlushed 전까지 유지됨).
+    public Map<String, Long> takeForFlush(Long schoolId) {
+        String flushKey = FLUSH_PREFIX + schoolId;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(flushKey))) {
+            stringRedisTemplate.renameIfAbsent(COUNT_PREFIX + schoolId, flushKey);
+        }
+        Map<String, Long> counts = toMap(stringRedisTemplate.opsForZSet().rangeWithScores(flushKey, 0, -1));
+
+        String legacyKey = LEGACY_PREFIX + schoolId;
+        if ("list".equals(typeOf(legacyKey))) {
+            List<String> values = stringRedisTemplate.opsForList().range(legacyKey, 0, -1);
+            if (values != null) {
+                values.forEach(value -> counts.merge(value, 1L, Long::sum));
+            }
+        }
+        return counts;
+    }
+
+    public void removeFlushed(Long schoolId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(FLUSH_PREFIX + schoolId);
+        if ("list".equals(typeOf(LEGACY_PREFIX + schoolId))) {
+            keys.add(LEGACY_PREFIX + schoolId);
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    private String typeOf(String key) {
+        DataType type = stringRedisTemplate.type(key);
+        return type != null ? type.code() : "none";
+    }
+
+    private List<String> scan(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private Map<String, Long> toMap(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (tuples == null) {
+            return counts;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            counts.put(tuple.getValue(), tuple.getScore() != null ? tuple.getScore().longValue() : 0L);
+        }
+        return counts;
+    }
+}
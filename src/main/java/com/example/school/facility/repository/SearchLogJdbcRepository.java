@@ -0,0 +1,32 @@
+package com.example.school.facility.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchLogJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 검색 횟수를 한 번에 누적 ((school_id, value) 유니크 인덱스 기준 upsert)
+    public void addCounts(Long schoolId, Map<String, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(
+                "insert into search_log (value, count, school_id) values (?, ?, ?) " +
+                        "on duplicate key update count = count + values(count)",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                    ps.setLong(3, schoolId);
+                });
+    }
+}
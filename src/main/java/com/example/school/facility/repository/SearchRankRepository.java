@@ -7,7 +7,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface SearchRankRepository extends JpaRepository<SearchRank, Long> {
-    void deleteBySchool(School school);
-
-    List<SearchRank> findBySchool(School school);
+    List<SearchRank> findBySchoolOrderByRanking(School school);
 }
@@ -0,0 +1,86 @@
+package com.example.school.facility.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 학교별 분 단위 검색어 버킷 (Trend:{schoolId}:{epochMinute})
+// 버킷은 집계 구간이 지나면 만료되고, 검색이 있었던 학교는 Trend:schools 에 모아둔다.
+@Repository
+@RequiredArgsConstructor
+public class TrendingSearchRepository {
+    private static final String BUCKET_PREFIX = "Trend:";
+    private static final String SCHOOLS_KEY = "Trend:schools";
+    private static final String UNION_PREFIX = "TrendUnion:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void increment(Long schoolId, String value, long epochMinute, Duration ttl) {
+        increment(schoolId, value, epochMinute, ttl, 1);
+    }
+
+    public void increment(Long schoolId, String value, long epochMinute, Duration ttl, long count) {
+        increment(stringRedisTemplate, schoolId, value, epochMinute, ttl, count);
+    }
+
+    // 파이프라인 안에서는 operations 로 받은 연결에 명령만 쌓는다 (스크립트는 EVALSHA 실패 시 재시도가 안 됨)
+    public void increment(RedisOperations<String, String> operations, Long schoolId, String value, long epochMinute, Duration ttl, long count) {
+        String bucketKey = bucketKey(schoolId, epochMinute);
+        operations.opsForZSet().incrementScore(bucketKey, value, count);
+        operations.expire(bucketKey, ttl);
+        operations.opsForSet().add(SCHOOLS_KEY, String.valueOf(schoolId));
+    }
+
+    public List<Long> findSchoolIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(SCHOOLS_KEY);
+        if (members == null) {
+            return new ArrayList<>();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    public void removeSchool(Long schoolId) {
+        stringRedisTemplate.opsForSet().remove(SCHOOLS_KEY, String.valueOf(schoolId));
+    }
+
+    // 버킷별 가중치(감쇠)를 곱해 합친 뒤 상위 n개 (검색어 -> 점수)
+    public Map<String, Double> findTop(Long schoolId, Map<Long, Double> weightByMinute, int n) {
+        List<String> keys = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        weightByMinute.forEach((minute, weight) -> {
+            keys.add(bucketKey(schoolId, minute));
+            weights.add(weight);
+        });
+
+        Map<String, Double> top = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return top;
+        }
+        String unionKey = UNION_PREFIX + schoolId + ":" + System.nanoTime();
+        stringRedisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), unionKey,
+                Aggregate.SUM, Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray()));
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, n - 1);
+        stringRedisTemplate.delete(unionKey);
+
+        if (tuples != null) {
+            tuples.forEach(tuple -> top.put(tuple.getValue(), tuple.getScore()));
+        }
+        return top;
+    }
+
+    private String bucketKey(Long schoolId, long epochMinute) {
+        return BUCKET_PREFIX + schoolId + ":" + epochMinute;
+    }
+}
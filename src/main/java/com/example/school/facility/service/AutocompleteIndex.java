@@ -0,0 +1,233 @@
+package com.example.school.facility.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// 한 학교의 자동완성 트라이 (생성 후 변경하지 않음, 바뀌면 새로 만든다)
+// 이름의 모든 접미사를 음절 그대로, 각 단어부터의 이름을 초성으로 바꿔 넣는다.
+// 노드마다 점수 상위 TOP_SIZE 개의 후보를 미리 계산해 두어 조회는 검색어 길이만큼만 내려간다.
+// 정확히 일치하는 후보가 모자라면 편집 거리 1 까지 허용해 오타를 보정한다.
+public class AutocompleteIndex {
+    public static final int TOP_SIZE = 10;
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 짧은 검색어나 초성 검색어는 오타 보정 결과가 너무 넓어져 제외
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    private final Entry[] entries;
+    private final Node root;
+
+    private AutocompleteIndex(Entry[] entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    public static AutocompleteIndex build(List<Entry> candidates) {
+        // 점수 높은 순으로 번호를 매겨 두면 노드의 상위 후보는 번호 순 정렬과 같다
+        Entry[] entries = candidates.stream()
+                .sorted(Comparator.comparingDouble(Entry::getScore).reversed()
+                        .thenComparingInt(entry -> entry.getValue().length())
+                        .thenComparing(Entry::getValue))
+                .toArray(Entry[]::new);
+
+        BuildNode root = new BuildNode();
+        for (int i = 0; i < entries.length; i++) {
+            for (String key : keys(entries[i].getValue())) {
+                BuildNode node = root;
+                for (int j = 0; j < key.length(); j++) {
+                    node = node.children.computeIfAbsent(key.charAt(j), c -> new BuildNode());
+                    node.add(i);
+                }
+            }
+        }
+        return new AutocompleteIndex(entries, root.freeze());
+    }
+
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int size = Math.min(limit, TOP_SIZE);
+
+        // 마지막 글자는 입력 중일 수 있으므로 받침/모음이 덜 들어간 음절도 허용
+        Set<Integer> found = new LinkedHashSet<>();
+        Set<Integer> exact = new TreeSet<>();
+        Node parent = root.find(key, 0, key.length() - 1);
+        if (parent != null) {
+            char last = key.charAt(key.length() - 1);
+            for (int i = 0; i < parent.keys.length; i++) {
+                if (composing(last, parent.keys[i])) {
+                    collect(parent.children[i], exact);
+                }
+            }
+        }
+        addUpTo(found, exact, size);
+        if (found.size() < size && key.length() >= MIN_FUZZY_LENGTH && !hasJamo(key)) {
+            Set<Integer> fuzzy = new TreeSet<>();
+            fuzzy(root, key, 0, fuzzy);
+            addUpTo(found, fuzzy, size);
+        }
+
+        List<Entry> result = new ArrayList<>(found.size());
+        found.forEach(index -> result.add(entries[index]));
+        return result;
+    }
+
+    // 편집 한 번(치환, 삽입, 삭제)으로 도달하는 노드의 후보 (번호가 작을수록 점수가 높음)
+    private void fuzzy(Node node, String key, int from, Set<Integer> found) {
+        if (from == key.length()) {
+            return;
+        }
+        char expected = key.charAt(from);
+        // 검색어 글자 하나가 더 들어간 경우
+        collect(node.find(key, from + 1, key.length()), found);
+        for (int i = 0; i < node.keys.length; i++) {
+            Node child = node.children[i];
+            if (node.keys[i] == expected) {
+                fuzzy(child, key, from + 1, found);
+                continue;
+            }
+            // 글자를 잘못 입력한 경우
+            collect(child.find(key, from + 1, key.length()), found);
+            // 글자 하나를 빠뜨린 경우
+            collect(child.find(key, from, key.length()), found);
+        }
+    }
+
+    private static void addUpTo(Set<Integer> found, Set<Integer> candidates, int size) {
+        for (Integer index : candidates) {
+            if (found.size() >= size) {
+                return;
+            }
+            found.add(index);
+        }
+    }
+
+    // 입력 중인 글자 typed 가 완성되면 candidate 가 될 수 있는지 (예: '유' -> '육', 'ㅇ' -> '육')
+    static boolean composing(char typed, char candidate) {
+        if (typed == candidate) {
+            return true;
+        }
+        if (candidate < '가' || candidate > '힣') {
+            return false;
+        }
+        if (typed >= '가' && typed <= '힣') {
+            return (typed - '가') % 28 == 0 && candidate > typed && candidate < typed + 28;
+        }
+        return CHOSUNG.charAt((candidate - '가') / 588) == typed;
+    }
+
+    private static boolean hasJamo(String key) {
+        return key.chars().anyMatch(c -> CHOSUNG.indexOf(c) >= 0);
+    }
+
+    private static void collect(Node node, Set<Integer> found) {
+        if (node != null) {
+            for (int index : node.top) {
+                found.add(index);
+            }
+        }
+    }
+
+    // 이름의 모든 접미사 (띄어쓰기 없는 복합어 중간부터 입력해도 찾도록), 그리고 이름 전체의 초성
+    static Set<String> keys(String value) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalize(value);
+        for (int i = 0; i < normalized.length(); i++) {
+            keys.add(normalized.substring(i));
+        }
+        String[] words = compose(value).toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        for (int i = 0; i < words.length; i++) {
+            String key = String.join("", Arrays.copyOfRange(words, i, words.length));
+            if (!key.isEmpty()) {
+                keys.add(chosung(key));
+            }
+        }
+        return keys;
+    }
+
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= '가' && c <= '힣') {
+                sb.append(CHOSUNG.charAt((c - '가') / 588));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : compose(text).toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+
+    // 자모가 나뉘어 들어온(NFD) 입력도 완성형 음절로 맞춘다 (초성 검색용 호환 자모는 그대로 둠)
+    private static String compose(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+    @Getter @AllArgsConstructor
+    public static class Entry {
+        String value;
+        String type;
+        Long id;
+        double score;
+    }
+
+    // 조회용 노드 (자식 글자는 정렬된 배열)
+    private static class Node {
+        final char[] keys;
+        final Node[] children;
+        final int[] top;
+
+        Node(char[] keys, Node[] children, int[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node find(String key, int from, int to) {
+            Node node = this;
+            for (int i = from; i < to && node != null; i++) {
+                int index = Arrays.binarySearch(node.keys, key.charAt(i));
+                node = index < 0 ? null : node.children[index];
+            }
+            return node;
+        }
+    }
+
+    private static class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<Integer> top = new ArrayList<>();
+
+        // 번호 순으로 들어오므로 중복만 거르고 TOP_SIZE 개까지 유지
+        void add(int index) {
+            if (top.size() < TOP_SIZE && (top.isEmpty() || top.get(top.size() - 1) != index)) {
+                top.add(index);
+            }
+        }
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (var child : children.entrySet()) {
+                keys[i] = child.getKey();
+                frozen[i++] = child.getValue().freeze();
+            }
+            return new Node(keys, frozen, top.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
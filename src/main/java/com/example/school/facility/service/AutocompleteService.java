@@ -0,0 +1,91 @@
+package com.example.school.facility.service;
+
+import com.example.school.domain.Building;
+import com.example.school.domain.Facility;
+import com.example.school.domain.SearchLog;
+import com.example.school.facility.dto.FacilityResponseDTO;
+import com.example.school.facility.event.FacilityChangedEvent;
+import com.example.school.facility.repository.BuildingRepository;
+import com.example.school.facility.repository.FacilityRepository;
+import com.example.school.facility.repository.SearchLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 학교별 시설물/건물 이름 자동완성
+// 트라이는 학교 단위로 한 번 만들어 메모리에서만 조회하고, 시설물이 바뀌거나 검색 횟수가 쌓이면 새로 만든다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+    public static final String FACILITY = "FACILITY";
+    public static final String BUILDING = "BUILDING";
+
+    private final FacilityRepository facilityRepository;
+    private final BuildingRepository buildingRepository;
+    private final SearchLogRepository searchLogRepository;
+    private final Map<Long, AutocompleteIndex> indexes = new ConcurrentHashMap<>();
+
+    public FacilityResponseDTO.AutocompleteList suggest(Long schoolId, String query, int size) {
+        List<FacilityResponseDTO.AutocompleteDTO> list = indexes.computeIfAbsent(schoolId, this::load)
+                .suggest(query, size).stream()
+                .map(entry -> new FacilityResponseDTO.AutocompleteDTO(entry.getValue(), entry.getType(), entry.getId()))
+                .collect(Collectors.toList());
+        return new FacilityResponseDTO.AutocompleteList(list, list.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFacilityChanged(FacilityChangedEvent event) {
+        if (indexes.containsKey(event.getSchoolId())) {
+            indexes.put(event.getSchoolId(), load(event.getSchoolId()));
+        }
+    }
+
+    // 검색 횟수 반영
+    @Scheduled(fixedDelayString = "${facility.autocomplete.rebuild-interval-ms:600000}", initialDelayString = "${facility.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        indexes.keySet().forEach(schoolId -> indexes.put(schoolId, load(schoolId)));
+    }
+
+    private AutocompleteIndex load(Long schoolId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (SearchLog searchLog : searchLogRepository.findAllBySchoolId(schoolId)) {
+            counts.merge(normalize(searchLog.getValue()), searchLog.getCount() == null ? 0L : searchLog.getCount(), Long::sum);
+        }
+
+        List<AutocompleteIndex.Entry> entries = new ArrayList<>();
+        for (Facility facility : facilityRepository.findAllBySchoolId(schoolId)) {
+            add(entries, counts, facility.getName(), FACILITY, facility.getId());
+            add(entries, counts, facility.getExtraName(), FACILITY, facility.getId());
+        }
+        for (Building building : buildingRepository.findAllBySchoolId(schoolId)) {
+            add(entries, counts, building.getName(), BUILDING, building.getId());
+        }
+        log.info("학교 ID {} 자동완성 후보 {}건 생성", schoolId, entries.size());
+        return AutocompleteIndex.build(entries);
+    }
+
+    // 이 이름으로 검색된 횟수만큼 가산점 (로그 스케일)
+    private void add(List<AutocompleteIndex.Entry> entries, Map<String, Long> counts, String value, String type, Long id) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        double score = 1.0 + Math.log1p(counts.getOrDefault(normalize(value), 0L));
+        entries.add(new AutocompleteIndex.Entry(value.trim(), type, id, score));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.school.facility.service;
+
+import com.example.school.facility.event.FacilityChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 학교 단위 시설물 카탈로그 캐시 (테마별/건물별 목록, 지도 마커, 추천 태그)
+// 1차는 서버 메모리(Caffeine), 2차는 Redis(JSON)이고 둘 다 없을 때만 DB 에서 만든다.
+// 시설물/건물/테마가 바뀌면 커밋 후 Redis 키를 지우고 pub/sub 으로 모든 서버의 메모리 캐시를 비운다.
+// Redis 키에는 학교별 세대(Catalog:{schoolId}:gen)를 넣어, 비우기 전에 읽기 시작한 적재가 지운 뒤에 써도 읽히지 않게 한다.
+@Slf4j
+@Component
+public class CatalogCache implements MessageListener {
+    public static final String CHANNEL = "Catalog:evict";
+    public static final String THEME = "theme";
+    public static final String BUILDING = "building";
+    public static final String MARKER = "marker";
+    public static final String SUGGESTION = "suggestion";
+    private static final List<String> NAMES = List.of(THEME, BUILDING, MARKER, SUGGESTION);
+    private static final String KEY_PREFIX = "Catalog:";
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Object> local;
+    private final Duration redisTtl;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public CatalogCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${facility.catalog-cache.local-size:1000}") long localSize,
+                        @Value("${facility.catalog-cache.local-ttl-seconds:300}") long localTtlSeconds,
+                        @Value("${facility.catalog-cache.redis-ttl-hours:24}") long redisTtlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        // pub/sub 메시지를 놓쳐도 오래된 목록이 남지 않도록 메모리 캐시는 짧게 유지
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.localHitCounter = meterRegistry.counter("facility.catalog.cache", "result", "local");
+        this.redisHitCounter = meterRegistry.counter("facility.catalog.cache", "result", "redis");
+        this.missCounter = meterRegistry.counter("facility.catalog.cache", "result", "miss");
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "facility.catalog");
+    }
+
+    // 같은 키를 동시에 요청하면 한 요청만 Redis/DB 를 조회한다
+    public <T> T get(String name, Long schoolId, Class<T> type, Supplier<T> loader) {
+        String key = key(name, schoolId);
+        boolean[] loaded = {false};
+        Object value = local.get(key, k -> {
+            loaded[0] = true;
+            return load(name, schoolId, type, loader);
+        });
+        if (!loaded[0]) {
+            localHitCounter.increment();
+        }
+        return type.cast(value);
+    }
+
+    // 세대를 먼저 올린 뒤 메모리 캐시를 비워야, 그 사이 시작한 적재가 이전 세대 값을 다시 올리지 않는다
+    public void evict(Long schoolId) {
+        try {
+            long generation = stringRedisTemplate.opsForValue().increment(generationKey(schoolId));
+            stringRedisTemplate.delete(NAMES.stream().map(name -> redisKey(name, schoolId, generation - 1)).toList());
+        } catch (DataAccessException e) {
+            log.warn("카탈로그 캐시 삭제 실패 - 학교 ID {}", schoolId, e);
+        }
+        evictLocal(schoolId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(schoolId));
+        } catch (DataAccessException e) {
+            log.warn("카탈로그 캐시 삭제 알림 실패 - 학교 ID {}", schoolId, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFacilityChanged(FacilityChangedEvent event) {
+        evict(event.getSchoolId());
+    }
+
+    // 다른 서버에서 바뀐 학교
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void evictLocal(Long schoolId) {
+        local.invalidateAll(NAMES.stream().map(name -> key(name, schoolId)).toList());
+    }
+
+    private <T> T load(String name, Long schoolId, Class<T> type, Supplier<T> loader) {
+        String key = null;
+        try {
+            key = redisKey(name, schoolId, generation(schoolId));
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json != null) {
+                redisHitCounter.increment();
+                return objectMapper.readValue(json, type);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("카탈로그 캐시 조회 실패 - {}", key, e);
+        }
+
+        missCounter.increment();
+        T value = loader.get();
+        // 세대를 읽지 못했으면 어느 세대인지 모르므로 저장하지 않는다
+        if (key == null) {
+            return value;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("카탈로그 캐시 저장 실패 - {}", key, e);
+        }
+        return value;
+    }
+
+    private long generation(Long schoolId) {
+        String generation = stringRedisTemplate.opsForValue().get(generationKey(schoolId));
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    private String key(String name, Long schoolId) {
+        return KEY_PREFIX + schoolId + ":" + name;
+    }
+
+    private String redisKey(String name, Long schoolId, long generation) {
+        return KEY_PREFIX + schoolId + ":" + generation + ":" + name;
+    }
+
+    private String generationKey(Long schoolId) {
+        return KEY_PREFIX + schoolId + GENERATION_SUFFIX;
+    }
+}
@@ -15,15 +15,13 @@ public interface FacilityQueryService {
 
     FacilityResponseDTO.Images getImages(Long facilityId, Integer page);
 
-    FacilityResponseDTO.ListByKeyword getListByKeyword(Long memberId, String keyword);
+    FacilityResponseDTO.ListByKeyword getListByKeyword(Long schoolId, String keyword);
 
     FacilityResponseDTO.DetailOnMarker getDetailOnMarker(Long buildingId);
 
-    FacilityResponseDTO.SearchResults searchFacility(Long memberId, String keyword, Integer page);
+    FacilityResponseDTO.SearchResults searchFacility(Long memberId, Long schoolId, String keyword, Integer page);
 
-    FacilityResponseDTO.SearchLogList getSearchLog(Long memberId);
-
-    FacilityResponseDTO.SearchRankList getSearchRank(Long memberId);
+    FacilityResponseDTO.SearchRankList getSearchRank(Long schoolId);
 
     FacilityResponseDTO.BuildingDetail getBuildingDetail(Long buildingId);
 
@@ -8,18 +8,19 @@ import com.example.school.facility.dto.FacilityResponseDTO;
 import com.example.school.facility.dto.FacilitySaveResponseDTO;
 import com.example.school.facility.repository.*;
 import com.example.school.user.repository.ReviewRepository;
-import com.example.school.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,12 +30,13 @@ public class FacilityQueryServiceImpl implements FacilityQueryService{
     private final FacilityRepository facilityRepository;
     private final BuildingImageRepository buildingImageRepository;
     private final FacilityImageRepository facilityImageRepository;
-    private final UserRepository userRepository;
+    private final SchoolRepository schoolRepository;
     private final BuildingRepository buildingRepository;
     private final SearchRankRepository searchRankRepository;
     private final ReviewRepository reviewRepository;
     private final FacilityService facilityService;
-    private final RedisTemplate redisTemplate;
+    private final TrendingSearchService trendingSearchService;
+    private final FacilitySearchService facilitySearchService;
 
     @Override
     public Optional<Facility> findFacility(Long id) {
@@ -84,12 +86,10 @@ public class FacilityQueryServiceImpl implements FacilityQueryService{
     }
 
     @Override
-    public FacilityResponseDTO.ListByKeyword getListByKeyword(Long memberId, String keyword) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    public FacilityResponseDTO.ListByKeyword getListByKeyword(Long schoolId, String keyword) {
         FacilityKeyword keywordEnum = FacilityKeyword.valueOf(keyword.toUpperCase());
 
-        List<Facility> entities = facilityRepository.findByKeywordAndSchool(keywordEnum,member.getSchool());
+        List<Facility> entities = facilityRepository.findByKeywordAndSchool(keywordEnum,schoolRepository.getReferenceById(schoolId));
 
         List<FacilityResponseDTO.FacilityInKeyword> list = entities.stream().map(entity->{
             return new FacilityResponseDTO.FacilityInKeyword(entity.getId(),entity.getName(), entity.getDescription(), entity.getImageURL());
@@ -111,32 +111,29 @@ public class FacilityQueryServiceImpl implements FacilityQueryService{
     }
 
     @Override
-    public FacilityResponseDTO.SearchResults searchFacility(Long memberId, String keyword, Integer page) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
+    public FacilityResponseDTO.SearchResults searchFacility(Long memberId, Long schoolId, String keyword, Integer page) {
         Pageable pageRequest = PageRequest.of(page-1,10);
-        Page<Facility> entities = facilityRepository.findByNameLikeAndSchool(keyword.trim(),member.getSchool(), pageRequest);
-        facilityService.saveSearchLog(memberId, member.getSchool().getId(), keyword);
+        // 색인에서 관련도 순 id를 받아 해당 페이지의 시설물만 조회
+        List<Long> ids = facilitySearchService.search(schoolId, keyword.trim());
+        int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageRequest.getPageSize(), ids.size()));
+        Map<Long, Facility> facilities = facilityRepository.findAllByIdWithBuilding(pageIds).stream()
+                .collect(Collectors.toMap(Facility::getId, Function.identity()));
+        List<Facility> content = pageIds.stream().map(facilities::get).filter(Objects::nonNull).collect(Collectors.toList());
+        Page<Facility> entities = new PageImpl<>(content, pageRequest, ids.size());
+        facilityService.saveSearchLog(memberId, schoolId, keyword);
 
         return new FacilityResponseDTO.SearchResults(entities);
     }
 
     @Override
-    public FacilityResponseDTO.SearchLogList getSearchLog(Long memberId) {
-        String key = facilityService.searchLogKey(memberId);
-        Set<String> set = redisTemplate.opsForZSet().reverseRange(key,0,9);
-        List<String> list = set.stream().collect(Collectors.toList());
-
-        return new FacilityResponseDTO.SearchLogList(list, list.size());
-    }
-
-    @Override
-    public FacilityResponseDTO.SearchRankList getSearchRank(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
-        List<SearchRank> entities = searchRankRepository.findBySchool(member.getSchool());
+    public FacilityResponseDTO.SearchRankList getSearchRank(Long schoolId) {
+        // 실시간 인기 검색어, 최근 검색이 없으면 누적 순위
+        List<FacilityResponseDTO.SearchRankDTO> trending = trendingSearchService.getTop(schoolId);
+        if(!trending.isEmpty()){
+            return new FacilityResponseDTO.SearchRankList(trending, trending.size());
+        }
+        List<SearchRank> entities = searchRankRepository.findBySchoolOrderByRanking(schoolRepository.getReferenceById(schoolId));
 
         return new FacilityResponseDTO.SearchRankList(entities);
     }
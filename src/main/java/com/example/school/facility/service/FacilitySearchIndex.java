@@ -0,0 +1,283 @@
+package com.example.school.facility.service;
+
+import com.example.school.domain.Facility;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 한 학교의 시설물 역색인
+// 각 필드를 단어별 2-gram(한 글자 단어는 1-gram)으로 나눠 색인하고,
+// 검색어의 모든 gram 을 포함하는 시설물만 필드 가중치 * idf 점수로 정렬해 반환한다.
+// 시설물은 추가된 순서대로 슬롯 번호를 받고, 수정/삭제된 슬롯은 비워 두었다가 절반 이상 비면 다시 채번한다.
+public class FacilitySearchIndex {
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float EXTRA_NAME_WEIGHT = 2.0f;
+    private static final float BUILDING_WEIGHT = 1.5f;
+    private static final float TEXT_WEIGHT = 1.0f;
+    // 이름에 검색어가 그대로 포함되면 추가 점수
+    private static final float EXACT_NAME_BONUS = 5.0f;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private Document[] documents = new Document[INITIAL_CAPACITY];
+    // 검색어 포함 여부 확인용 정규화 문자열 (이름, 전체 필드)
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private int slotCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Document document) {
+        Map<String, Float> terms = terms(document);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+            addLocked(document, terms);
+            if (slotCount > COMPACT_THRESHOLD && slotById.size() * 2 < slotCount) {
+                compactLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long facilityId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(facilityId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 관련도 순 시설물 id
+    public List<Long> search(String keyword) {
+        Set<String> queryTerms = tokenize(keyword);
+        if (queryTerms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String normalized = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            // 한 글자 검색어는 gram 으로 찾을 수 없으므로 필드를 직접 확인
+            if (normalized.length() == 1) {
+                return scan(normalized);
+            }
+            // 문서 수가 적은 gram 부터 교집합
+            List<Postings> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // hits[slot] == i 이면 앞의 i 개 gram 을 모두 포함
+            int live = slotById.size();
+            float[] scores = new float[slotCount];
+            int[] hits = new int[slotCount];
+            for (int i = 0; i < lists.size(); i++) {
+                Postings list = lists.get(i);
+                float idf = (float) Math.log(1 + (double) live / list.size);
+                for (int j = 0; j < list.size; j++) {
+                    int slot = list.slots[j];
+                    if (hits[slot] == i) {
+                        hits[slot] = i + 1;
+                        scores[slot] += list.weights[j] * idf;
+                    }
+                }
+            }
+
+            // 점수(내림차순), 슬롯(오름차순)으로 정렬하기 위해 하나의 long 으로 묶는다
+            Postings first = lists.get(0);
+            long[] ranked = new long[first.size];
+            int count = 0;
+            for (int j = 0; j < first.size; j++) {
+                int slot = first.slots[j];
+                if (hits[slot] != lists.size() || documents[slot] == null) {
+                    continue;
+                }
+                float score = names[slot].contains(normalized) ? scores[slot] + EXACT_NAME_BONUS : scores[slot];
+                ranked[count++] = ((long) Float.floatToIntBits(score) << 32) | (Integer.MAX_VALUE - slot);
+            }
+            Arrays.sort(ranked, 0, count);
+
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = count - 1; i >= 0; i--) {
+                ids.add(documents[Integer.MAX_VALUE - (int) ranked[i]].getId());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> scan(String normalized) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> others = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (documents[slot] == null) {
+                continue;
+            }
+            if (names[slot].contains(normalized)) {
+                ids.add(documents[slot].getId());
+            } else if (texts[slot].contains(normalized)) {
+                others.add(documents[slot].getId());
+            }
+        }
+        ids.addAll(others);
+        return ids;
+    }
+
+    private void addLocked(Document document, Map<String, Float> terms) {
+        if (slotCount == documents.length) {
+            int capacity = documents.length * 2;
+            documents = Arrays.copyOf(documents, capacity);
+            names = Arrays.copyOf(names, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        int slot = slotCount++;
+        documents[slot] = document;
+        names[slot] = normalize(document.getName());
+        // 필드 경계를 넘는 일치를 막기 위해 구분자로 연결
+        texts[slot] = String.join("\n", document.fields().stream().map(FacilitySearchIndex::normalize).toList());
+        slotById.put(document.getId(), slot);
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new Postings()).add(slot, weight));
+    }
+
+    // 비워진 슬롯은 검색 시 건너뛰고, 목록에서는 재채번할 때 빠진다
+    private void removeLocked(Long facilityId) {
+        Integer slot = slotById.remove(facilityId);
+        if (slot != null) {
+            documents[slot] = null;
+            names[slot] = null;
+            texts[slot] = null;
+        }
+    }
+
+    private void compactLocked() {
+        List<Document> live = new ArrayList<>(slotById.size());
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (documents[slot] != null) {
+                live.add(documents[slot]);
+            }
+        }
+        postings.clear();
+        slotById.clear();
+        Arrays.fill(documents, 0, slotCount, null);
+        Arrays.fill(names, 0, slotCount, null);
+        Arrays.fill(texts, 0, slotCount, null);
+        slotCount = 0;
+        for (Document document : live) {
+            addLocked(document, terms(document));
+        }
+    }
+
+    private static Map<String, Float> terms(Document document) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, document.getName(), NAME_WEIGHT);
+        addTerms(terms, document.getExtraName(), EXTRA_NAME_WEIGHT);
+        addTerms(terms, document.getBuildingName(), BUILDING_WEIGHT);
+        addTerms(terms, document.getPurpose(), TEXT_WEIGHT);
+        addTerms(terms, document.getItem(), TEXT_WEIGHT);
+        addTerms(terms, document.getLocation(), TEXT_WEIGHT);
+        return terms;
+    }
+
+    // 같은 gram 이 여러 필드에 있으면 가장 높은 가중치
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+
+    // gram 하나의 (슬롯, 가중치) 목록, 슬롯은 오름차순으로만 추가됨
+    private static class Postings {
+        int[] slots = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+    }
+
+    @Getter @AllArgsConstructor
+    public static class Document {
+        Long id;
+        String name;
+        String extraName;
+        String purpose;
+        String item;
+        String location;
+        String buildingName;
+
+        public static Document from(Facility facility) {
+            return new Document(facility.getId(), facility.getName(), facility.getExtraName(), facility.getPurpose(),
+                    facility.getItem(), facility.getLocation(),
+                    facility.getBuilding() != null ? facility.getBuilding().getName() : null);
+        }
+
+        List<String> fields() {
+            List<String> fields = new ArrayList<>();
+            fields.add(name);
+            fields.add(extraName);
+            fields.add(purpose);
+            fields.add(item);
+            fields.add(location);
+            fields.add(buildingName);
+            return fields;
+        }
+    }
+}
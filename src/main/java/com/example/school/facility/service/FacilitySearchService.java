@@ -0,0 +1,65 @@
+package com.example.school.facility.service;
+
+import com.example.school.domain.Facility;
+import com.example.school.facility.event.FacilityChangedEvent;
+import com.example.school.facility.repository.FacilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 학교별 시설물 검색 색인
+// 처음 검색될 때 학교의 시설물을 한 번 읽어 색인을 만들고, 이후에는 변경된 시설물만 반영한다.
+// 다른 인스턴스에서 바뀐 내용은 주기적인 재색인으로 따라잡는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilitySearchService {
+    private final FacilityRepository facilityRepository;
+    private final Map<Long, FacilitySearchIndex> indexes = new ConcurrentHashMap<>();
+
+    // 관련도 순 시설물 id
+    public List<Long> search(Long schoolId, String keyword) {
+        return indexes.computeIfAbsent(schoolId, this::load).search(keyword);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFacilityChanged(FacilityChangedEvent event) {
+        FacilitySearchIndex index = indexes.get(event.getSchoolId());
+        if (index == null) {
+            // 아직 색인되지 않은 학교는 처음 검색할 때 최신 상태로 만들어진다
+            return;
+        }
+        if (event.getFacilityId() == null) {
+            indexes.remove(event.getSchoolId());
+            return;
+        }
+        if (event.isRemoved()) {
+            index.remove(event.getFacilityId());
+            return;
+        }
+        facilityRepository.findByIdWithDetail(event.getFacilityId()).ifPresentOrElse(
+                facility -> index.put(FacilitySearchIndex.Document.from(facility)),
+                () -> index.remove(event.getFacilityId()));
+    }
+
+    @Scheduled(fixedDelayString = "${facility.search.reindex-interval-ms:600000}", initialDelayString = "${facility.search.reindex-interval-ms:600000}")
+    public void reindex() {
+        indexes.keySet().forEach(schoolId -> indexes.put(schoolId, load(schoolId)));
+    }
+
+    private FacilitySearchIndex load(Long schoolId) {
+        long startedAt = System.currentTimeMillis();
+        FacilitySearchIndex index = new FacilitySearchIndex();
+        List<Facility> facilities = facilityRepository.findAllBySchoolIdWithBuilding(schoolId);
+        facilities.forEach(facility -> index.put(FacilitySearchIndex.Document.from(facility)));
+        log.info("학교 ID {} 시설물 {}건 색인 ({}ms)", schoolId, index.size(), System.currentTimeMillis() - startedAt);
+        return index;
+    }
+}
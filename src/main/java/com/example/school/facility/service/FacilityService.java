@@ -1,24 +1,19 @@
 package com.example.school.facility.service;
 
-import com.example.school.apiPayload.GeneralException;
-import com.example.school.apiPayload.status.ErrorStatus;
 import com.example.school.domain.Building;
 import com.example.school.domain.Facility;
-import com.example.school.domain.Member;
+import com.example.school.domain.School;
 import com.example.school.domain.Theme;
 import com.example.school.domain.enums.FacilityTag;
 import com.example.school.facility.dto.FacilityResponseDTO;
 import com.example.school.facility.repository.BuildingRepository;
 import com.example.school.facility.repository.ThemeRepository;
 import com.example.school.facility.repository.FacilityRepository;
-import com.example.school.user.repository.UserRepository;
+import com.example.school.facility.repository.SchoolRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,103 +24,75 @@ public class FacilityService {
     private final FacilityRepository facilityRepository;
     private final ThemeRepository themeRepository;
     private final BuildingRepository buildingRepository;
-    private final UserRepository userRepository;
-    private final RedisTemplate redisTemplate;
+    private final SchoolRepository schoolRepository;
+    private final CatalogCache catalogCache;
+    private final SearchLogWriter searchLogWriter;
     public Facility findById(Long id){
         return facilityRepository.findById(id).get();
     }
 
-    public FacilityResponseDTO.ListByTheme getListByTheme(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    public FacilityResponseDTO.ListByTheme getListByTheme(Long schoolId) {
+        return catalogCache.get(CatalogCache.THEME, schoolId, FacilityResponseDTO.ListByTheme.class, () -> {
+            School school = schoolRepository.getReferenceById(schoolId);
 
-        List<Theme> themeEntities = themeRepository.findBySchoolWithFacility(member.getSchool());
+            List<Theme> themeEntities = themeRepository.findBySchoolWithFacility(school);
 
-        List<Facility> facilityEntities = facilityRepository.findBySchoolAndIsThemeIsTrue(member.getSchool());
+            List<Facility> facilityEntities = facilityRepository.findBySchoolAndIsThemeIsTrue(school);
 
-        List<FacilityResponseDTO.ThemeWithFacilities> themeList =
-                themeEntities.stream().map(FacilityResponseDTO.ThemeWithFacilities::new).collect(Collectors.toList());
+            List<FacilityResponseDTO.ThemeWithFacilities> themeList =
+                    themeEntities.stream().map(FacilityResponseDTO.ThemeWithFacilities::new).collect(Collectors.toList());
 
-        List<FacilityResponseDTO.FacilityIdAndExtraName> facilityList =
-                facilityEntities.stream().map(FacilityResponseDTO.FacilityIdAndExtraName::new).collect(Collectors.toList());
+            List<FacilityResponseDTO.FacilityIdAndExtraName> facilityList =
+                    facilityEntities.stream().map(FacilityResponseDTO.FacilityIdAndExtraName::new).collect(Collectors.toList());
 
-        return new FacilityResponseDTO.ListByTheme(themeList, facilityList);
+            return new FacilityResponseDTO.ListByTheme(themeList, facilityList);
+        });
     }
 
-    public FacilityResponseDTO.ListByBuilding getListByBuilding(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    public FacilityResponseDTO.ListByBuilding getListByBuilding(Long schoolId) {
+        return catalogCache.get(CatalogCache.BUILDING, schoolId, FacilityResponseDTO.ListByBuilding.class, () -> {
+            List<Building> entities = buildingRepository.findBySchoolAndInCategoryWithFacility(schoolRepository.getReferenceById(schoolId));
 
-        List<Building> entities = buildingRepository.findBySchoolAndInCategoryWithFacility(member.getSchool());
+            List<FacilityResponseDTO.BuildingWithFacilities> list =
+                    entities.stream().map(FacilityResponseDTO.BuildingWithFacilities::new)
+                            .collect(Collectors.toList());
 
-        List<FacilityResponseDTO.BuildingWithFacilities> list =
-                entities.stream().map(FacilityResponseDTO.BuildingWithFacilities::new)
-                        .collect(Collectors.toList());
-
-
-        return new FacilityResponseDTO.ListByBuilding(list,list.size());
+            return new FacilityResponseDTO.ListByBuilding(list,list.size());
+        });
     }
 
-    public FacilityResponseDTO.Markers getMarkers(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
-        List<Building> entities = buildingRepository.findAllBySchool(member.getSchool());
+    public FacilityResponseDTO.Markers getMarkers(Long schoolId) {
+        return catalogCache.get(CatalogCache.MARKER, schoolId, FacilityResponseDTO.Markers.class, () -> {
+            List<Building> entities = buildingRepository.findAllBySchoolId(schoolId);
 
-        List<FacilityResponseDTO.Marker> list = entities.stream()
-                .map(entity->new FacilityResponseDTO.Marker(entity.getId(),entity.getLabel(),entity.getLatitude(),entity.getLongitude()))
-                .collect(Collectors.toList());
+            List<FacilityResponseDTO.Marker> list = entities.stream()
+                    .map(entity->new FacilityResponseDTO.Marker(entity.getId(),entity.getLabel(),entity.getLatitude(),entity.getLongitude()))
+                    .collect(Collectors.toList());
 
-        return new FacilityResponseDTO.Markers(list,list.size());
+            return new FacilityResponseDTO.Markers(list,list.size());
+        });
     }
 
-    public FacilityResponseDTO.Tags getSuggestion(Long memberId) {
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    public FacilityResponseDTO.Tags getSuggestion(Long schoolId) {
+        return catalogCache.get(CatalogCache.SUGGESTION, schoolId, FacilityResponseDTO.Tags.class, () -> {
+            List<Facility> entities = facilityRepository.findBySchoolAndTagIsNotNull(schoolRepository.getReferenceById(schoolId));
 
-        List<Facility> entities = facilityRepository.findBySchoolAndTagIsNotNull(member.getSchool());
+            Map<FacilityTag,List<Facility>> map = entities.stream().collect(Collectors.groupingBy(Facility::getTag));
 
-        Map<FacilityTag,List<Facility>> map = entities.stream().collect(Collectors.groupingBy(Facility::getTag));
+            List<FacilityResponseDTO.Tag> tags = map.keySet().stream().map(key->{
+                List<FacilityResponseDTO.FacilityWithTag> list =
+                        map.get(key).stream().map(value->{
+                            return new FacilityResponseDTO.FacilityWithTag(value.getId(),value.getName(),value.getImageURL());
+                        }).collect(Collectors.toList());
+                return new FacilityResponseDTO.Tag(key.getTag(),list,list.size());
+            }).collect(Collectors.toList());
 
-        List<FacilityResponseDTO.Tag> tags = map.keySet().stream().map(key->{
-            List<FacilityResponseDTO.FacilityWithTag> list =
-                    map.get(key).stream().map(value->{
-                        return new FacilityResponseDTO.FacilityWithTag(value.getId(),value.getName(),value.getImageURL());
-                    }).collect(Collectors.toList());
-            return new FacilityResponseDTO.Tag(key.getTag(),list,list.size());
-        }).collect(Collectors.toList());
-
-        return new FacilityResponseDTO.Tags(tags);
+            return new FacilityResponseDTO.Tags(tags);
+        });
     }
 
+    // 검색 기록은 비동기로 저장 (대기열이 가득 차면 생략)
     public void saveSearchLog(Long memberId, Long schoolId, String value) {
-        String key = searchLogKeyBySchool(schoolId);
-        redisTemplate.opsForList().rightPush(key,value);
-
-        key = searchLogKey(memberId);
-        Long size = redisTemplate.opsForZSet().size(key);
-        if(size==10){
-            redisTemplate.opsForZSet().removeRange(key,0,0);
-        }
-        redisTemplate.opsForZSet().add(key, value, LocalDateTime.now().toEpochSecond(ZoneOffset.UTC));
-    }
-
-    public String searchLogKey(Long memberId){
-        return "SearchLog:"+memberId;
-    }
-
-    public String searchLogKeyBySchool(Long schoolId){
-        return "School:"+schoolId;
-    }
-
-    public FacilityResponseDTO.DeleteSearchLog deleteSearchLog(Long memberId, String value) {
-        String key = searchLogKey(memberId);
-
-        long count = redisTemplate.opsForZSet().remove(key, value);
-
-        if(count!=1){
-            throw new GeneralException(ErrorStatus.BAD_REQUEST);
-        }
-        return new FacilityResponseDTO.DeleteSearchLog(value);
+        searchLogWriter.offer(memberId, schoolId, value);
     }
 }
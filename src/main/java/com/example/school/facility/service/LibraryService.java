@@ -2,10 +2,10 @@ package com.example.school.facility.service;
 
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
-import com.example.school.domain.Member;
+import com.example.school.domain.School;
 import com.example.school.facility.dto.FacilityResponseDTO;
 import com.example.school.facility.dto.RestTemplateRes;
-import com.example.school.user.repository.UserRepository;
+import com.example.school.facility.repository.SchoolRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -15,20 +15,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service @RequiredArgsConstructor
 public class LibraryService {
 
-    private final UserRepository userRepository;
+    private final SchoolRepository schoolRepository;
+    // 학교 이름은 바뀌지 않으므로 한 번만 조회
+    private final Map<Long, String> schoolNames = new ConcurrentHashMap<>();
 
     @Value("${flask-server}")
     private String address;
-    public FacilityResponseDTO.LibraryStatus getLibraryStatus(Long memberId){
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
-        if(!member.getSchool().getName().equals("울산대학교")){
+    public FacilityResponseDTO.LibraryStatus getLibraryStatus(Long schoolId){
+        if(!"울산대학교".equals(schoolName(schoolId))){
             throw new GeneralException(ErrorStatus.NO_CONTENT);
         }
 
@@ -55,4 +56,10 @@ public class LibraryService {
 
         return new FacilityResponseDTO.LibraryStatus(list);
     }
+
+    private String schoolName(Long schoolId) {
+        return schoolNames.computeIfAbsent(schoolId, id -> schoolRepository.findById(id)
+                .map(School::getName)
+                .orElseThrow(()->new GeneralException(ErrorStatus.NO_CONTENT)));
+    }
 }
@@ -0,0 +1,51 @@
+package com.example.school.facility.service;
+
+import com.example.school.apiPayload.GeneralException;
+import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.facility.dto.FacilityResponseDTO;
+import com.example.school.facility.repository.RecentSearchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// 회원별 최근 검색어 기록/조회/삭제
+// 기록은 검색어 추가, 개수 제한, 만료 갱신을 스크립트 한 번(검색 한 건당 명령 하나)으로 보내며, 검색 기록 저장 파이프라인에도 함께 쌓을 수 있다.
+@Service
+public class RecentSearchService {
+    private final RecentSearchRepository recentSearchRepository;
+    private final int size;
+    private final Duration ttl;
+
+    public RecentSearchService(RecentSearchRepository recentSearchRepository,
+                               @Value("${facility.recent-search.size:10}") int size,
+                               @Value("${facility.recent-search.ttl-days:30}") long ttlDays) {
+        this.recentSearchRepository = recentSearchRepository;
+        this.size = size;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    // 검색어 -> 검색 시각(epoch millis)
+    public void record(Long memberId, Map<String, Long> searchedAtByValue) {
+        recentSearchRepository.add(memberId, searchedAtByValue, size, ttl);
+    }
+
+    public void record(RedisOperations<String, String> operations, Long memberId, Map<String, Long> searchedAtByValue) {
+        recentSearchRepository.add(operations, memberId, searchedAtByValue, size, ttl);
+    }
+
+    public FacilityResponseDTO.SearchLogList getSearchLog(Long memberId) {
+        List<String> list = recentSearchRepository.findRecent(memberId, size);
+        return new FacilityResponseDTO.SearchLogList(list, list.size());
+    }
+
+    public FacilityResponseDTO.DeleteSearchLog deleteSearchLog(Long memberId, String value) {
+        if (!recentSearchRepository.remove(memberId, value)) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+        return new FacilityResponseDTO.DeleteSearchLog(value);
+    }
+}
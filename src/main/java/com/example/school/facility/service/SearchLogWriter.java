@@ -0,0 +1,132 @@
+package com.example.school.facility.service;
+
+import com.example.school.facility.repository.SearchCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 검색 기록 비동기 저장
+// 검색 요청은 제한된 대기열에 넣기만 하고 바로 반환한다. 대기열이 가득 차면 기록을 버린다.
+// 스케줄러가 대기열을 비우면서 같은 검색어는 합쳐 집계, 실시간 순위, 최근 검색어를 한 번의 파이프라인으로 쓴다.
+// 파이프라인에서는 NOSCRIPT 응답을 받아 다시 보낼 수 없으므로 스크립트는 EVALSHA 가 아닌 EVAL 로 쌓는다.
+@Slf4j
+@Service
+public class SearchLogWriter {
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SearchCountRepository searchCountRepository;
+    private final TrendingSearchService trendingSearchService;
+    private final RecentSearchService recentSearchService;
+    private final BlockingQueue<SearchLogEvent> queue;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSize;
+    private final Timer flushTimer;
+
+    public SearchLogWriter(StringRedisTemplate stringRedisTemplate, SearchCountRepository searchCountRepository,
+                           TrendingSearchService trendingSearchService, RecentSearchService recentSearchService,
+                           MeterRegistry meterRegistry,
+                           @Value("${facility.search-log.queue-capacity:10000}") int capacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.searchCountRepository = searchCountRepository;
+        this.trendingSearchService = trendingSearchService;
+        this.recentSearchService = recentSearchService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.droppedCounter = meterRegistry.counter("facility.search-log.dropped");
+        this.failedCounter = meterRegistry.counter("facility.search-log.failed");
+        this.batchSize = DistributionSummary.builder("facility.search-log.batch.size")
+                .description("한 번에 기록한 검색 수")
+                .register(meterRegistry);
+        this.flushTimer = meterRegistry.timer("facility.search-log.flush");
+        Gauge.builder("facility.search-log.pending", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    // 대기열이 가득 차 있으면 false (기록 생략)
+    public boolean offer(Long memberId, Long schoolId, String value) {
+        boolean offered = queue.offer(new SearchLogEvent(memberId, schoolId, value, System.currentTimeMillis()));
+        if (!offered) {
+            droppedCounter.increment();
+        }
+        return offered;
+    }
+
+    @Scheduled(fixedDelayString = "${facility.search-log.flush-interval-ms:200}")
+    public void flush() {
+        List<SearchLogEvent> events = new ArrayList<>(FLUSH_BATCH_SIZE);
+        while (queue.drainTo(events, FLUSH_BATCH_SIZE) > 0) {
+            List<SearchLogEvent> batch = events;
+            flushTimer.record(() -> write(batch));
+            batchSize.record(batch.size());
+            events = new ArrayList<>(FLUSH_BATCH_SIZE);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void write(List<SearchLogEvent> events) {
+        Map<Long, Map<String, Long>> counts = new LinkedHashMap<>();
+        Map<TrendKey, Long> trends = new LinkedHashMap<>();
+        // 회원별 최근 검색어 (같은 검색어는 마지막 시각만)
+        Map<Long, Map<String, Long>> recents = new LinkedHashMap<>();
+        for (SearchLogEvent event : events) {
+            counts.computeIfAbsent(event.getSchoolId(), key -> new LinkedHashMap<>()).merge(event.getValue(), 1L, Long::sum);
+            trends.merge(new TrendKey(event.getSchoolId(), event.getValue(), event.getSearchedAt() / (60 * 1000)), 1L, Long::sum);
+            recents.computeIfAbsent(event.getMemberId(), key -> new LinkedHashMap<>()).put(event.getValue(), event.getSearchedAt());
+        }
+
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> pipeline = (RedisOperations<String, String>) operations;
+                    counts.forEach((schoolId, values) ->
+                            values.forEach((value, count) -> searchCountRepository.increment(pipeline, schoolId, value, count)));
+                    trends.forEach((trend, count) ->
+                            trendingSearchService.record(pipeline, trend.schoolId(), trend.value(), trend.epochMinute(), count));
+                    recents.forEach((memberId, searchedAtByValue) -> recentSearchService.record(pipeline, memberId, searchedAtByValue));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            failedCounter.increment(events.size());
+            log.warn("검색 기록 {}건 저장 실패", events.size(), e);
+        }
+    }
+
+    @Getter @AllArgsConstructor
+    private static class SearchLogEvent {
+        private final Long memberId;
+        private final Long schoolId;
+        private final String value;
+        private final long searchedAt;
+    }
+
+    private record TrendKey(Long schoolId, String value, long epochMinute) {
+    }
+}
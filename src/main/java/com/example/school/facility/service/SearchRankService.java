@@ -4,24 +4,27 @@ import com.example.school.domain.School;
 import com.example.school.domain.SearchLog;
 import com.example.school.domain.SearchRank;
 import com.example.school.facility.repository.SchoolRepository;
+import com.example.school.facility.repository.SearchCountRepository;
+import com.example.school.facility.repository.SearchLogJdbcRepository;
 import com.example.school.facility.repository.SearchLogRepository;
 import com.example.school.facility.repository.SearchRankRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.Map;
 
 @Service @Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class SearchRankService {
-    private final RedisTemplate redisTemplate;
+    private final SearchCountRepository searchCountRepository;
+    private final SearchLogJdbcRepository searchLogJdbcRepository;
     private final SearchLogRepository searchLogRepository;
     private final SchoolRepository schoolRepository;
     private final SearchRankRepository searchRankRepository;
@@ -32,49 +35,52 @@ public class SearchRankService {
         List<School> schoolList = schoolRepository.findAll();
         for(School school:schoolList){
             List<SearchLog> list = searchLogRepository.findTop5BySchoolOrderByCountDesc(school);
-            searchRankRepository.deleteBySchool(school);
+            List<SearchRank> ranks = searchRankRepository.findBySchoolOrderByRanking(school);
+            // 순위 행은 지우지 않고 바뀐 검색어만 갱신
             for(int i=0;i<list.size();i++){
+                String value = list.get(i).getValue();
+                if(i<ranks.size()){
+                    if(!value.equals(ranks.get(i).getValue())){
+                        ranks.get(i).changeValue(value);
+                    }
+                    continue;
+                }
                 searchRankRepository.save(
                         SearchRank.builder()
                                 .ranking(i+1)
-                                .value(list.get(i).getValue())
+                                .value(value)
                                 .school(school)
                                 .build()
                 );
             }
+            if(ranks.size()>list.size()){
+                searchRankRepository.deleteAll(ranks.subList(list.size(), ranks.size()));
+            }
         }
         log.info("인기 검색어 갱신 완료");
     }
 
+    // 한 시간 동안 Redis에 모인 학교별 검색 횟수를 SearchLog 에 한 번에 누적
     public void storeCount(){
-        Set<String> schoolList = redisTemplate.keys("School:*");
-        for(String key:schoolList){
-            School school = schoolRepository.findById(getSchoolId(key))
-                    .orElseThrow();
-
-            Long size = redisTemplate.opsForList().size(key);
-            List<String> list = redisTemplate.opsForList().range(key,0,size-1);
-
-            for(String value:list){
-                Optional<SearchLog> log = searchLogRepository.findByValueAndSchool(value, school);
-                if(log.isPresent()){
-                    log.get().plusCount();
-                }else{
-                    searchLogRepository.save(
-                            SearchLog.builder()
-                            .value(value)
-                            .count(1L)
-                            .school(school)
-                            .build()
-                    );
-                }
-            }
-            redisTemplate.delete(key);
+        for(Long schoolId:searchCountRepository.findSchoolIds()){
+            Map<String, Long> counts = searchCountRepository.takeForFlush(schoolId);
+            searchLogJdbcRepository.addCounts(schoolId, counts);
+            removeFlushedAfterCommit(schoolId);
+            log.info("검색어 집계 반영 - 학교 {}: {}건", schoolId, counts.size());
         }
     }
 
-    public Long getSchoolId(String key){
-        System.out.println(Long.parseLong(key.substring(7)));
-        return Long.parseLong(key.substring(7));
+    // 커밋이 실패하면 반영용 키를 남겨 다음 실행에서 다시 반영
+    private void removeFlushedAfterCommit(Long schoolId){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            searchCountRepository.removeFlushed(schoolId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                searchCountRepository.removeFlushed(schoolId);
+            }
+        });
     }
 }
@@ -0,0 +1,76 @@
+package com.example.school.facility.service;
+
+import com.example.school.facility.dto.FacilityResponseDTO;
+import com.example.school.facility.repository.TrendingSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 학교별 실시간 인기 검색어
+// 검색 시 분 단위 버킷에 횟수를 더하고, 최근 WINDOW 동안의 버킷을 반감기 HALF_LIFE 로 감쇠시켜 합산한다.
+// 상위 TOP_SIZE 개를 주기적으로 다시 계산해 메모리에 두고 조회 시 그대로 반환한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingSearchService {
+    private static final int TOP_SIZE = 10;
+    private static final int WINDOW_MINUTES = 60;
+    private static final double HALF_LIFE_MINUTES = 15.0;
+    private static final Duration BUCKET_TTL = Duration.ofMinutes(WINDOW_MINUTES + 5);
+
+    private final TrendingSearchRepository trendingSearchRepository;
+    private final Map<Long, List<FacilityResponseDTO.SearchRankDTO>> trending = new ConcurrentHashMap<>();
+
+    public void record(Long schoolId, String value) {
+        trendingSearchRepository.increment(schoolId, value, currentMinute(), BUCKET_TTL, 1);
+    }
+
+    // 모아서 기록할 때 (검색 시각의 분 버킷에 count 만큼)
+    public void record(RedisOperations<String, String> operations, Long schoolId, String value, long epochMinute, long count) {
+        trendingSearchRepository.increment(operations, schoolId, value, epochMinute, BUCKET_TTL, count);
+    }
+
+    // 계산된 적 없으면 빈 목록
+    public List<FacilityResponseDTO.SearchRankDTO> getTop(Long schoolId) {
+        return trending.getOrDefault(schoolId, List.of());
+    }
+
+    @Scheduled(fixedDelay = 10 * 1000)
+    public void refresh() {
+        long now = currentMinute();
+        Map<Long, Double> weightByMinute = new LinkedHashMap<>();
+        for (int age = 0; age < WINDOW_MINUTES; age++) {
+            weightByMinute.put(now - age, Math.pow(0.5, age / HALF_LIFE_MINUTES));
+        }
+
+        Set<Long> active = new HashSet<>();
+        for (Long schoolId : trendingSearchRepository.findSchoolIds()) {
+            Map<String, Double> top = trendingSearchRepository.findTop(schoolId, weightByMinute, TOP_SIZE);
+            if (top.isEmpty()) {
+                // 집계 구간 동안 검색이 없던 학교
+                trendingSearchRepository.removeSchool(schoolId);
+                continue;
+            }
+            List<FacilityResponseDTO.SearchRankDTO> ranks = new ArrayList<>(top.size());
+            top.keySet().forEach(value -> ranks.add(new FacilityResponseDTO.SearchRankDTO(ranks.size() + 1, value)));
+            trending.put(schoolId, List.copyOf(ranks));
+            active.add(schoolId);
+        }
+        trending.keySet().retainAll(active);
+    }
+
+    private long currentMinute() {
+        return System.currentTimeMillis() / (60 * 1000);
+    }
+}
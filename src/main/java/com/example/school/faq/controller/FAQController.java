@@ -5,6 +5,7 @@ import com.example.school.faq.dto.FAQRes;
 import com.example.school.faq.service.FAQService;
 import com.example.school.validation.annotation.CheckFaqType;
 import com.example.school.validation.annotation.CheckPage;
+import com.example.school.validation.annotation.CheckSize;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,4 +33,15 @@ public class FAQController {
 
         return ApiResponse.onSuccess(res);
     }
+
+    // 커서 방식 (after 를 비우면 첫 페이지, 응답의 nextCursor 를 다음 요청의 after 로)
+    @GetMapping("list/cursor")
+    public ApiResponse<FAQRes.FAQList> getListByCursor(
+            @RequestParam("type") @CheckFaqType String type,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "15") @CheckSize Integer size){
+        FAQRes.FAQList res = FAQService.getList(type, after, size);
+
+        return ApiResponse.onSuccess(res);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.school.faq.dto;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.FAQ;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -30,6 +31,17 @@ public class FAQRes {
         Long totalElements;
         Boolean isFirst;
         Boolean isLast;
+        String nextCursor;
+        Boolean hasNext;
+
+        // 커서 방식 (size+1건 조회 결과)
+        public FAQList(List<FAQ> entities, int size){
+            list = entities.stream().limit(size).map(entity->new Detail(entity))
+                    .collect(Collectors.toList());
+            listSize = list.size();
+            nextCursor = Cursor.next(entities, size, FAQ::getCreatedAt, FAQ::getId);
+            hasNext = nextCursor != null;
+        }
 
         public FAQList(Page<FAQ> entities){
             list = entities.stream().map(entity->new Detail(entity))
@@ -5,11 +5,18 @@ import com.example.school.domain.enums.FaqType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FAQRepository extends JpaRepository<FAQ, Long> {
     List<FAQ> findTop4By();
 
     Page<FAQ> findByType(FaqType type, Pageable page);
+
+    @Query("select f from FAQ f where f.type=:type " +
+            "and (f.createdAt<:cursorAt or (f.createdAt=:cursorAt and f.id<:cursorId)) " +
+            "order by f.createdAt desc, f.id desc")
+    List<FAQ> findByTypeAfter(FaqType type, LocalDateTime cursorAt, Long cursorId, Pageable page);
 }
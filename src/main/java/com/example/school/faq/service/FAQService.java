@@ -1,5 +1,6 @@
 package com.example.school.faq.service;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.FAQ;
 import com.example.school.domain.enums.FaqType;
 import com.example.school.faq.dto.FAQRes;
@@ -37,4 +38,13 @@ public class FAQService {
 
         return new FAQRes.FAQList(entities);
     }
+
+    public FAQRes.FAQList getList(String type, String after, int size) {
+        FaqType faqType = FaqType.valueOf(type.toUpperCase());
+        Cursor cursor = Cursor.decodeOrFirst(after);
+
+        List<FAQ> entities = faqRepository.findByTypeAfter(faqType, cursor.getTime(), cursor.getId(), PageRequest.of(0, size + 1));
+
+        return new FAQRes.FAQList(entities, size);
+    }
 }
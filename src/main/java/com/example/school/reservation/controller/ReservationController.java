@@ -1,10 +1,9 @@
 package com.example.school.reservation.controller;
 
 import com.example.school.apiPayload.ApiResponse;
+import com.example.school.auth.config.AuthMember;
 import com.example.school.awsS3.AwsS3Service;
-import com.example.school.domain.Facility;
 import com.example.school.domain.Image;
-import com.example.school.domain.Member;
 import com.example.school.facility.converter.FacilityConverter;
 import com.example.school.facility.dto.FacilityResponseDTO;
 import com.example.school.reservation.converter.ImageConverter;
@@ -15,6 +14,7 @@ import com.example.school.reservation.dto.ReservationRequestDTO;
 import com.example.school.reservation.dto.ReservationResponseDTO;
 import com.example.school.reservation.service.ImageService;
 import com.example.school.reservation.service.ReservationService;
+import com.example.school.validation.annotation.CheckSize;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -59,6 +59,16 @@ public class ReservationController {
         return ApiResponse.onSuccess(ReservationConverter.detailResultListDTO(reservationList));
     }
 
+    //예약 내역 확인(사용자 기준, 커서 방식 - after 를 비우면 첫 페이지, 응답의 nextCursor 를 다음 요청의 after 로)
+    @GetMapping("/details/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<ReservationResponseDTO.DetailResultDTO> getReservationByCursor(@RequestParam(name="memberId") Long memberId,
+                                                                                      @RequestParam(name="after", required = false) String after,
+                                                                                      @RequestParam(name="size", defaultValue = "10") @CheckSize Integer size) {
+        List<Reservation> reservationList = reservationService.getReservation(memberId,after,size);
+        return ApiResponse.onSuccess(ReservationConverter.detailResultListDTO(reservationList,size));
+    }
+
     //예약 내역(시설물 기준)
     @GetMapping("/byfacility")
     @PreAuthorize("isAuthenticated()")
@@ -72,8 +82,8 @@ public class ReservationController {
     @PreAuthorize("isAuthenticated()")
     public ApiResponse<ReservationResponseDTO.bookedUpListDTO> checkTime(@RequestParam(name = "facilityId")Long facilityId,
                                                                          @RequestParam(name="year")String year, @RequestParam(name = "month")String month, @RequestParam(name = "day") String day) {
-        List<Reservation> reservations = reservationService.possible_time(facilityId, year, month, day);
-        return ApiResponse.onSuccess(ReservationConverter.bookedUpListDTO(reservations));
+        long slots = reservationService.possible_time(facilityId, year, month, day);
+        return ApiResponse.onSuccess(ReservationConverter.bookedUpListDTO(year, month, day, slots));
     }
 
     //예약 연장하기
@@ -91,12 +101,12 @@ public class ReservationController {
     //사용자 예약현황을 통해 이용한 시설물 목록 보기
     @GetMapping("/facility")
     @PreAuthorize("isAuthenticated()")
-    public ApiResponse<FacilityResponseDTO.DetailResultDTO> useFacility(@RequestParam(name="memberId") Long memberId,Integer page){
-        Page<Facility> facilities = reservationService.getFacilities(memberId,page);
-        List<Reservation> reservationNo = reservationService.getReservation_no(memberId);
-        Page<Reservation> useReservations = reservationService.useReservation(reservationNo,page);
+    public ApiResponse<FacilityResponseDTO.DetailResultDTO> useFacility(@RequestParam(name="memberId") Long memberId,
+                                                                        @RequestParam(name="cursor", required = false) String cursor,
+                                                                        @RequestParam(name="size", defaultValue = "10") @CheckSize Integer size){
+        List<Reservation> useReservations = reservationService.useReservation(memberId,cursor,size);
 
-        FacilityResponseDTO.DetailResultDTO detailResultDTO = FacilityConverter.detailResultDTO(facilities,useReservations);
+        FacilityResponseDTO.DetailResultDTO detailResultDTO = FacilityConverter.detailResultDTO(useReservations,size);
         return ApiResponse.onSuccess(detailResultDTO);
     }
 
@@ -131,9 +141,8 @@ public class ReservationController {
     }
 
     @GetMapping("/in-use")
-    public ApiResponse<ReservationResponseDTO.InUse> getInUse(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-        ReservationResponseDTO.InUse res = reservationService.getInUse(member.getId());
+    public ApiResponse<ReservationResponseDTO.InUse> getInUse(AuthMember authMember){
+        ReservationResponseDTO.InUse res = reservationService.getInUse(authMember.getMemberId());
 
         return ApiResponse.onSuccess(res);
     }
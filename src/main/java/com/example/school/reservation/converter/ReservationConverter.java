@@ -1,10 +1,14 @@
 package com.example.school.reservation.converter;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.Reservation;
+import com.example.school.domain.enums.AlertType;
 import com.example.school.reservation.dto.ReservationRequestDTO;
 import com.example.school.reservation.dto.ReservationResponseDTO;
+import com.example.school.reservation.service.ReservationSlotIndex;
 import org.springframework.data.domain.Page;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,24 +43,43 @@ public class ReservationConverter {
                 .listSize(reservationDTO.size())
                 .build();
     }
-    //예약 불가능한 시간대
-    public static ReservationResponseDTO.bookedUpDTO bookedUpDTO(Reservation reservation){
-        return ReservationResponseDTO.bookedUpDTO.builder()
-                .id(reservation.getId())
-                .endTime(reservation.getEnd_time())
-                .startTime(reservation.getStart_time())
-                .year(reservation.getYear())
-                .month(reservation.getMonth())
-                .day(reservation.getDay())
+    //예약 세부 내용들 list (커서, size+1건 조회 결과)
+    public static ReservationResponseDTO.DetailResultDTO detailResultListDTO(List<Reservation> reservationList, int size){
+        List<ReservationResponseDTO.DetailDTO> reservationDTO = reservationList.stream()
+                .limit(size)
+                .map(ReservationConverter::detailResultDTO).collect(Collectors.toList());
+        String nextCursor = Cursor.next(reservationList, size, Reservation::getCreatedAt, Reservation::getId);
+        return ReservationResponseDTO.DetailResultDTO.builder()
+                .resultList(reservationDTO)
+                .listSize(reservationDTO.size())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
-    //예약 불가능한 시간대 세부내용 리스트
-    public static ReservationResponseDTO.bookedUpListDTO bookedUpListDTO(List<Reservation> reservationList){
-        List<ReservationResponseDTO.bookedUpDTO> reservationDTO = reservationList.stream()
-                .map(ReservationConverter::bookedUpDTO).collect(Collectors.toList());
+    //예약 불가능한 시간대 (연속으로 점유된 슬롯을 하나의 구간으로 묶음)
+    public static ReservationResponseDTO.bookedUpListDTO bookedUpListDTO(String year, String month, String day, long slots){
+        List<ReservationResponseDTO.bookedUpDTO> reservationDTO = new ArrayList<>();
+        int hour = 0;
+        while (hour < ReservationSlotIndex.SLOT_COUNT) {
+            if ((slots & (1L << hour)) == 0) {
+                hour++;
+                continue;
+            }
+            int startTime = hour;
+            while (hour < ReservationSlotIndex.SLOT_COUNT && (slots & (1L << hour)) != 0) {
+                hour++;
+            }
+            reservationDTO.add(ReservationResponseDTO.bookedUpDTO.builder()
+                    .startTime(startTime)
+                    .endTime(hour)
+                    .year(year)
+                    .month(month)
+                    .day(day)
+                    .build());
+        }
         return ReservationResponseDTO.bookedUpListDTO.builder()
                 .bookedUpList(reservationDTO)
-                .listSize(reservationList.size())
+                .listSize(reservationDTO.size())
                 .build();
     }
     //예약 하기 -> 예약 만듬
@@ -87,4 +110,19 @@ public class ReservationConverter {
                 .build();
     }
 
+    //예약 알림
+    public static ReservationResponseDTO.AlertDTO alertDTO(Long reservationId, AlertType alertType, String message){
+        return ReservationResponseDTO.AlertDTO.builder()
+                .reservationId(reservationId)
+                .alertType(alertType)
+                .message(message)
+                .build();
+    }
+    //회원별 알림 묶음
+    public static ReservationResponseDTO.AlertBatchDTO alertBatchDTO(List<ReservationResponseDTO.AlertDTO> alerts){
+        return ReservationResponseDTO.AlertBatchDTO.builder()
+                .alerts(alerts)
+                .listSize(alerts.size())
+                .build();
+    }
 }
@@ -43,6 +43,8 @@ public class ReservationResponseDTO {
         Long totalElements;
         Boolean isFirst;
         Boolean isLast;
+        String nextCursor;
+        Boolean hasNext;
     }
 
     //예약 가능한 시간
@@ -88,4 +90,24 @@ public class ReservationResponseDTO {
         Integer endTime;
         String remainingTime;
     }
+
+    //예약 알림
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AlertDTO{
+        Long reservationId;
+        AlertType alertType;
+        String message;
+    }
+    //같은 시점에 발생한 회원별 알림 묶음
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AlertBatchDTO{
+        List<AlertDTO> alerts;
+        Integer listSize;
+    }
 }
@@ -0,0 +1,70 @@
+package com.example.school.reservation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 예약 알림 대기열 (Redis sorted set, score = 알림 시각 epoch millis)
+// 서버가 재시작되어도 대기 중인 알림이 유지된다.
+@Repository
+@RequiredArgsConstructor
+public class AlertQueueRepository {
+    private static final String QUEUE_KEY = "Alert:queue";
+
+    // 시각이 지난 알림을 꺼내면서 바로 삭제 (여러 서버가 동시에 꺼내도 한 번만 전달됨)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+            "for i = 1, #due, 2 do redis.call('ZREM', KEYS[1], due[i]) end " +
+            "return due", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void addAll(Map<String, Long> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = alerts.entrySet().stream()
+                .map(alert -> new DefaultTypedTuple<>(alert.getKey(), alert.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        stringRedisTemplate.opsForZSet().add(QUEUE_KEY, tuples);
+    }
+
+    public void removeAll(Collection<String> alertKeys) {
+        if (alertKeys.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(QUEUE_KEY, alertKeys.toArray());
+    }
+
+    // 알림 키 -> 예정 시각
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> pollDue(long now, int limit) {
+        List<String> due = stringRedisTemplate.execute(POLL_SCRIPT, List.of(QUEUE_KEY), String.valueOf(now), String.valueOf(limit));
+
+        Map<String, Long> alerts = new LinkedHashMap<>();
+        if (due == null) {
+            return alerts;
+        }
+        for (int i = 0; i + 1 < due.size(); i += 2) {
+            alerts.put(due.get(i), Double.valueOf(due.get(i + 1)).longValue());
+        }
+        return alerts;
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
+}
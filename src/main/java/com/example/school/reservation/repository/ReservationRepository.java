@@ -4,9 +4,11 @@ import com.example.school.domain.Member;
 import com.example.school.domain.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +18,33 @@ public interface ReservationRepository extends JpaRepository<Reservation,Long> {
     List<Reservation> findAllByMemberId(Long memberId);
     List<Reservation> findAllByFacilityIdAndYearAndMonthAndDay(Long facilityId,String year,String month,String day);
 
+    //회원 예약 내역 (생성 시각 기준 키셋)
+    @Query("select r from Reservation r join fetch r.facility " +
+            "where r.member.id=:memberId " +
+            "and (r.createdAt<:cursorAt or (r.createdAt=:cursorAt and r.id<:cursorId)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Reservation> findAllByMemberIdAfter(Long memberId, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    //이용 중인 예약 (member_id, start_at 인덱스 범위 조회)
     @Query("select r " +
             "from Reservation r " +
             "where r.member=:member " +
-            "and r.year=:year and r.month=:month and r.day=:day " +
-            "and r.start_time<=:hour and r.end_time>:hour")
-    Optional<Reservation> findInUse(Member member, String year, String month, String day, int hour);
+            "and r.startAt<=:now and r.endAt>:now")
+    Optional<Reservation> findInUse(Member member, LocalDateTime now);
+
+    //기준 시각 이전에 시작한 예약 (시설물 함께 조회, 커서 (cursorAt, cursorId) 다음부터)
+    @Query("select r from Reservation r join fetch r.facility " +
+            "where r.member.id=:memberId and r.startAt<:before " +
+            "and (r.startAt<:cursorAt or (r.startAt=:cursorAt and r.id<:cursorId)) " +
+            "order by r.startAt desc, r.id desc")
+    List<Reservation> findPast(Long memberId, LocalDateTime before, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    //시설물의 [startAt, endAt) 구간과 겹치는 미반납 예약 (facility_id, start_at, end_at 인덱스)
+    @Query("select r from Reservation r " +
+            "where r.facility.id=:facilityId and r.startAt<:endAt and r.endAt>:startAt " +
+            "and (r.back is null or r.back=false)")
+    List<Reservation> findOverlapping(Long facilityId, LocalDateTime startAt, LocalDateTime endAt);
+
+    //날짜/시각 컬럼이 아직 채워지지 않은 예약
+    List<Reservation> findByReservationDateIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
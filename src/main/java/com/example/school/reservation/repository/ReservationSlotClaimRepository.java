@@ -0,0 +1,13 @@
+package com.example.school.reservation.repository;
+
+import com.example.school.domain.ReservationSlotClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ReservationSlotClaimRepository extends JpaRepository<ReservationSlotClaim, Long> {
+    //반납한 예약의 점유 해제
+    @Modifying
+    @Query("delete from ReservationSlotClaim c where c.reservationId=:reservationId")
+    int deleteByReservationId(Long reservationId);
+}
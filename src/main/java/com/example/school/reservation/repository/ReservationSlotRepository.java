@@ -0,0 +1,18 @@
+package com.example.school.reservation.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+//시설물-날짜별 예약 슬롯 비트맵 저장소 (비트 i = i시~i+1시 점유 여부)
+public interface ReservationSlotRepository {
+    Optional<Long> findSlots(Long facilityId, String year, String month, String day);
+
+    void saveIfAbsent(Long facilityId, String year, String month, String day, long slots, Duration ttl);
+
+    // 비어 있으면 원자적으로 점유: 1 = 점유 성공, 0 = 이미 점유됨, -1 = 아직 적재되지 않음
+    long claim(Long facilityId, String year, String month, String day, long slots);
+
+    void release(Long facilityId, String year, String month, String day, long slots);
+
+    void delete(Long facilityId, String year, String month, String day);
+}
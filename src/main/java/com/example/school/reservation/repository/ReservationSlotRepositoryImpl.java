@@ -0,0 +1,65 @@
+package com.example.school.reservation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationSlotRepositoryImpl implements ReservationSlotRepository {
+    // 키가 없으면(아직 DB에서 적재되지 않았으면) 건드리지 않고 -1 반환
+    // 겹치는 슬롯이 하나라도 있으면 0, 아니면 점유 후 1 반환 (확인과 점유가 한 번에 실행됨)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local slots = redis.call('GET', KEYS[1]) " +
+            "if not slots then return -1 end " +
+            "slots = tonumber(slots) " +
+            "local mask = tonumber(ARGV[1]) " +
+            "if bit.band(slots, mask) ~= 0 then return 0 end " +
+            "redis.call('SET', KEYS[1], bit.bor(slots, mask), 'KEEPTTL') " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local slots = redis.call('GET', KEYS[1]) " +
+            "if not slots then return -1 end " +
+            "slots = bit.band(tonumber(slots), bit.bnot(tonumber(ARGV[1]))) " +
+            "redis.call('SET', KEYS[1], slots, 'KEEPTTL') " +
+            "return slots", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public Optional<Long> findSlots(Long facilityId, String year, String month, String day) {
+        String value = stringRedisTemplate.opsForValue().get(slotKey(facilityId, year, month, day));
+        return Optional.ofNullable(value).map(Long::valueOf);
+    }
+
+    @Override
+    public void saveIfAbsent(Long facilityId, String year, String month, String day, long slots, Duration ttl) {
+        stringRedisTemplate.opsForValue().setIfAbsent(slotKey(facilityId, year, month, day), String.valueOf(slots), ttl);
+    }
+
+    @Override
+    public long claim(Long facilityId, String year, String month, String day, long slots) {
+        return stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(slotKey(facilityId, year, month, day)), String.valueOf(slots));
+    }
+
+    @Override
+    public void release(Long facilityId, String year, String month, String day, long slots) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(slotKey(facilityId, year, month, day)), String.valueOf(slots));
+    }
+
+    @Override
+    public void delete(Long facilityId, String year, String month, String day) {
+        stringRedisTemplate.delete(slotKey(facilityId, year, month, day));
+    }
+
+    private String slotKey(Long facilityId, String year, String month, String day) {
+        return "Slot:" + facilityId + ":" + year + "-" + month + "-" + day;
+    }
+}
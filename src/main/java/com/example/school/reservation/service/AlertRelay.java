@@ -0,0 +1,62 @@
+package com.example.school.reservation.service;
+
+import com.example.school.reservation.dto.ReservationResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 알림 프레임을 구독 중인 세션이 있는 서버로 전달
+// simple/relay 모드: 메시지 브로커로 바로 전송 (relay 모드는 외부 브로커가 서버 간 전달)
+// redis 모드: Redis pub/sub 으로 모든 서버에 발행하고, 각 서버가 자기 세션에 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertRelay implements MessageListener {
+    public static final String CHANNEL = "Alert:relay";
+
+    private final SimpMessagingTemplate template;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    public void publish(Long memberId, ReservationResponseDTO.AlertBatchDTO batch) {
+        if (!"redis".equals(brokerMode)) {
+            deliver(memberId, batch);
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new RelayedAlert(memberId, batch)));
+        } catch (JsonProcessingException e) {
+            log.warn("알림 발행 실패 - 회원 ID {}", memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayedAlert relayed = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayedAlert.class);
+            deliver(relayed.memberId(), relayed.batch());
+        } catch (JsonProcessingException e) {
+            log.warn("알림 수신 실패", e);
+        }
+    }
+
+    // 이 서버에 연결된 세션이 없으면 브로커가 버린다
+    private void deliver(Long memberId, ReservationResponseDTO.AlertBatchDTO batch) {
+        template.convertAndSendToUser(String.valueOf(memberId), AlertScheduler.ALERT_DESTINATION, batch);
+    }
+
+    record RelayedAlert(Long memberId, ReservationResponseDTO.AlertBatchDTO batch) {
+    }
+}
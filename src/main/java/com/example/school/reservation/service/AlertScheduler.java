@@ -0,0 +1,212 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.Reservation;
+import com.example.school.domain.enums.AlertType;
+import com.example.school.reservation.converter.ReservationConverter;
+import com.example.school.reservation.dto.ReservationResponseDTO;
+import com.example.school.reservation.repository.AlertQueueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 예약 알림 스케줄러
+// 알림은 Redis 대기열(AlertQueueRepository)에 예정 시각과 함께 저장되고,
+// 공용 스케줄러가 1초마다 시각이 지난 알림만 꺼내 전송한다.
+// 같은 틱에 발생한 알림은 회원별로 묶어 /user/{memberId}/queue/alert 로 한 번에 보낸다.
+// 꺼낸 알림은 대기열에서 지워지므로, 전송에 실패한 회원의 알림은 대기열에 다시 넣는다.
+@Slf4j
+@Service
+public class AlertScheduler {
+    private static final int DISPATCH_BATCH_SIZE = 500;
+    private static final long LATE_THRESHOLD_MILLIS = 5 * 1000L;
+    public static final String ALERT_DESTINATION = "/queue/alert";
+
+    private final AlertQueueRepository alertQueueRepository;
+    private final AlertRelay alertRelay;
+    private final Counter firedCounter;
+    private final Counter lateCounter;
+    private final Counter expiredCounter;
+    private final Counter retriedCounter;
+    private final Counter frameCounter;
+    private final DistributionSummary batchSize;
+    private final Timer dispatchTimer;
+
+    public AlertScheduler(AlertQueueRepository alertQueueRepository, AlertRelay alertRelay, MeterRegistry meterRegistry) {
+        this.alertQueueRepository = alertQueueRepository;
+        this.alertRelay = alertRelay;
+        this.firedCounter = meterRegistry.counter("reservation.alert.fired");
+        this.lateCounter = meterRegistry.counter("reservation.alert.late");
+        this.expiredCounter = meterRegistry.counter("reservation.alert.expired");
+        this.retriedCounter = meterRegistry.counter("reservation.alert.retried");
+        this.frameCounter = meterRegistry.counter("reservation.alert.frames");
+        this.batchSize = DistributionSummary.builder("reservation.alert.batch.size")
+                .description("한 프레임에 묶인 알림 수")
+                .register(meterRegistry);
+        this.dispatchTimer = meterRegistry.timer("reservation.alert.dispatch");
+        Gauge.builder("reservation.alert.pending", alertQueueRepository, AlertQueueRepository::size)
+                .register(meterRegistry);
+    }
+
+    // 예약의 알림 등록 (이미 등록된 알림은 새 시각으로 갱신됨)
+    public void schedule(Reservation reservation) {
+        LocalDateTime reservationEndTime = reservation.getEndAt();
+        long now = System.currentTimeMillis();
+
+        Map<String, Long> alerts = new HashMap<>();
+        for (AlertType alert : reservation.getAlerts()) {
+            //알림을 예약할 시간(마감시간-원하는 n분전 알림시간)
+            long alertTime = reservationEndTime.minusMinutes(alert.getMinutesBefore())
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (alertTime > now) {
+                alerts.put(alertKey(reservation.getId(), reservation.getMember().getId(), alert), alertTime);
+            }
+        }
+        log.info("예약 ID {}에 대한 알림 {}건 등록", reservation.getId(), alerts.size());
+
+        afterCommit(() -> alertQueueRepository.addAll(alerts));
+    }
+
+    // 예약의 남은 알림 취소
+    public void cancel(Reservation reservation) {
+        List<String> alertKeys = new ArrayList<>();
+        for (AlertType alert : AlertType.values()) {
+            alertKeys.add(alertKey(reservation.getId(), reservation.getMember().getId(), alert));
+        }
+
+        afterCommit(() -> alertQueueRepository.removeAll(alertKeys));
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        dispatchTimer.record(() -> {
+            Map<Long, List<DueAlert>> alertsByMember = new LinkedHashMap<>();
+            Map<String, Long> dueAlerts;
+            do {
+                long now = System.currentTimeMillis();
+                try {
+                    dueAlerts = alertQueueRepository.pollDue(now, DISPATCH_BATCH_SIZE);
+                } catch (DataAccessException e) {
+                    // 이미 꺼낸 알림은 아래에서 전송
+                    log.warn("알림 대기열 조회 실패", e);
+                    break;
+                }
+                dueAlerts.forEach((alertKey, alertTime) -> collect(alertsByMember, alertKey, alertTime, now - alertTime));
+            } while (dueAlerts.size() == DISPATCH_BATCH_SIZE);
+
+            alertsByMember.forEach(this::send);
+        });
+    }
+
+    private void collect(Map<Long, List<DueAlert>> alertsByMember, String alertKey, long alertTime, long delayMillis) {
+        // 예약ID:회원ID:알림 형식이 아닌 키는 버린다 (다른 알림 전송은 계속)
+        String[] parts = alertKey.split(":");
+        Long reservationId;
+        Long memberId;
+        AlertType alert;
+        try {
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(alertKey);
+            }
+            reservationId = Long.valueOf(parts[0]);
+            memberId = Long.valueOf(parts[1]);
+            alert = AlertType.valueOf(parts[2]);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 알림 키 {}", alertKey);
+            return;
+        }
+
+        // 반납 시각까지 지나버린 알림은 보내지 않음 (서버 중단 후 재시작 등)
+        if (delayMillis > alert.getMinutesBefore() * 60 * 1000L) {
+            expiredCounter.increment();
+            log.info("예약 ID {}에 대한 {} 알림 만료", reservationId, alert.name());
+            return;
+        }
+        if (delayMillis > LATE_THRESHOLD_MILLIS) {
+            lateCounter.increment();
+        }
+
+        alertsByMember.computeIfAbsent(memberId, key -> new ArrayList<>())
+                .add(new DueAlert(alertKey, alertTime, ReservationConverter.alertDTO(reservationId, alert, alertMessage(reservationId, alert))));
+    }
+
+    // 회원 한 명에게 이번 틱의 알림을 한 프레임으로 전송
+    // 전송에 실패하면 원래 시각으로 대기열에 되돌려 다음 틱에 다시 보낸다 (다른 회원 전송은 계속)
+    private void send(Long memberId, List<DueAlert> dueAlerts) {
+        List<ReservationResponseDTO.AlertDTO> alerts = dueAlerts.stream().map(DueAlert::alert).toList();
+        try {
+            alertRelay.publish(memberId, ReservationConverter.alertBatchDTO(alerts));
+        } catch (RuntimeException e) {
+            log.warn("회원 ID {}에게 알림 {}건 전송 실패, 대기열에 되돌림", memberId, alerts.size(), e);
+            requeue(dueAlerts);
+            return;
+        }
+        frameCounter.increment();
+        batchSize.record(alerts.size());
+        firedCounter.increment(alerts.size());
+        log.info("회원 ID {}에게 알림 {}건 전송 완료", memberId, alerts.size());
+    }
+
+    private void requeue(List<DueAlert> dueAlerts) {
+        Map<String, Long> alerts = new HashMap<>();
+        dueAlerts.forEach(dueAlert -> alerts.put(dueAlert.key(), dueAlert.alertTime()));
+        try {
+            alertQueueRepository.addAll(alerts);
+            retriedCounter.increment(alerts.size());
+        } catch (DataAccessException e) {
+            log.error("알림 {}건 대기열 복구 실패 - {}", alerts.size(), alerts.keySet(), e);
+        }
+    }
+
+    private String alertMessage(Long reservationId, AlertType alert) {
+        switch (alert) {
+            case THREE_DAYS_BEFORE:
+                return "예약 ID " + reservationId + "에 대한 시설 이용 3일 전 안내";
+            case ONE_DAY_BEFORE:
+                return "예약 ID " + reservationId + "에 대한 시설 이용 1일 전 안내";
+            case THIRTY_MINUTES_BEFORE:
+                return "예약 ID " + reservationId + "에 대한 시설 반납 30분전 안내";
+            case TEN_MINUTES_BEFORE:
+                return "예약 ID " + reservationId + "에 대한 시설 반납 10분 전 안내";
+            default:
+                return "예약 ID " + reservationId + "에 대한 알림";
+        }
+    }
+
+    private String alertKey(Long reservationId, Long memberId, AlertType alert) {
+        return reservationId + ":" + memberId + ":" + alert.name();
+    }
+
+    // 대기열에서 꺼낸 알림 (전송 실패 시 되돌릴 키와 예정 시각)
+    private record DueAlert(String key, long alertTime, ReservationResponseDTO.AlertDTO alert) {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 대기열을 건드린다 (롤백된 예약의 알림 방지)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.Reservation;
+import com.example.school.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 기존 예약의 reservation_date/start_at/end_at 컬럼을 채우는 작업
+// 배치마다 트랜잭션을 나누고, 변환할 수 없는 행은 건너뛴다 (id 기준으로 진행).
+// 새 예약은 저장 시 컬럼이 채워지므로, 진행한 id 를 Redis 에 남겨 건너뛴 행을 매번 다시 읽지 않는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationScheduleBackfill {
+    private static final int BATCH_SIZE = 500;
+    private static final String CURSOR_KEY = "Backfill:reservation-schedule";
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Scheduled(initialDelay = 60 * 1000, fixedDelay = 60 * 60 * 1000)
+    public void backfill() {
+        long lastId = readCursor();
+        int converted = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Reservation> reservations = transactionTemplate.execute(status -> convertBatch(afterId));
+            if (reservations == null || reservations.isEmpty()) {
+                break;
+            }
+            converted += reservations.size();
+            lastId = reservations.get(reservations.size() - 1).getId();
+            writeCursor(lastId);
+        }
+        if (converted > 0) {
+            log.info("예약 날짜/시각 컬럼 변환 완료 - {}건 (마지막 ID {})", converted, lastId);
+        }
+    }
+
+    private List<Reservation> convertBatch(long afterId) {
+        List<Reservation> reservations = reservationRepository.findByReservationDateIsNullAndIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, BATCH_SIZE));
+        for (Reservation reservation : reservations) {
+            reservation.applySchedule();
+            if (reservation.getReservationDate() == null) {
+                log.warn("예약 ID {} 날짜 변환 실패 - {}-{}-{}", reservation.getId(), reservation.getYear(), reservation.getMonth(), reservation.getDay());
+            }
+        }
+        return reservations;
+    }
+
+    // 읽지 못하면 처음부터 (이미 변환된 행은 조회되지 않음)
+    private long readCursor() {
+        try {
+            String cursor = stringRedisTemplate.opsForValue().get(CURSOR_KEY);
+            return cursor == null ? 0L : Long.parseLong(cursor);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("예약 날짜 변환 진행 위치 조회 실패", e);
+            return 0L;
+        }
+    }
+
+    private void writeCursor(long lastId) {
+        try {
+            stringRedisTemplate.opsForValue().set(CURSOR_KEY, String.valueOf(lastId));
+        } catch (DataAccessException e) {
+            log.warn("예약 날짜 변환 진행 위치 저장 실패 - ID {}", lastId, e);
+        }
+    }
+}
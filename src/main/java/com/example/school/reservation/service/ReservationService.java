@@ -1,37 +1,35 @@
 package com.example.school.reservation.service;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
-import com.example.school.domain.enums.AlertType;
 import com.example.school.reservation.converter.ReservationConverter;
 import com.example.school.domain.Facility;
 import com.example.school.domain.Member;
 import com.example.school.domain.Reservation;
+import com.example.school.domain.ReservationSlotClaim;
 import com.example.school.facility.service.FacilityService;
 import com.example.school.reservation.dto.ReservationRequestDTO;
 import com.example.school.reservation.dto.ReservationResponseDTO;
 import com.example.school.reservation.repository.ReservationRepository;
+import com.example.school.reservation.repository.ReservationSlotClaimRepository;
 import com.example.school.user.repository.UserRepository;
 import com.example.school.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -43,8 +41,9 @@ public class ReservationService {
 
     private final FacilityService facilityService;
     private final UserRepository userRepository;
-    @Autowired
-    private final SimpMessagingTemplate template;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final AlertScheduler alertScheduler;
+    private final ReservationSlotClaimRepository reservationSlotClaimRepository;
 
 
     //예약기능
@@ -54,97 +53,42 @@ public class ReservationService {
         String month = reservationDTO.getMonth();
         String day = reservationDTO.getDay();
         Long facilityId = reservationDTO.getFacilityId();
-        List<Reservation> reservations = reservationRepository.findAllByFacilityIdAndYearAndMonthAndDay(facilityId, year, month, day);
-        boolean isAllowed = reservations.stream()
-                .allMatch(reservation -> isOverlap(reservation, reservationDTO.getStartTime(), reservationDTO.getEndTime()));
+        // 확인과 점유를 한 번에 수행 (저장이 실패하면 롤백 시 점유도 해제됨)
+        boolean isAllowed = reservationSlotIndex.claim(facilityId, year, month, day, reservationDTO.getStartTime(), reservationDTO.getEndTime());
 
         if(!isAllowed){
             throw new RuntimeException("해당 시간대에는 이미 예약 되어 있습니다.");
         }
 
         Reservation reservation = ReservationConverter.reservation(reservationDTO);
+        reservation.applySchedule();
+        checkOverlap(facilityId, year, month, day, reservation.getStartAt(), reservation.getEndAt(), "해당 시간대에는 이미 예약 되어 있습니다.");
+
         Member member = userService.findById(reservationDTO.getMemberId());
-        Facility facility = facilityService.findById(reservationDTO.getFacilityId());
+        Facility facility = facilityService.findById(facilityId);
         reservation.setMember(member);
         reservation.setFacility(facility);
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        claimSlots(savedReservation, reservationDTO.getStartTime(), reservationDTO.getEndTime(), "해당 시간대에는 이미 예약 되어 있습니다.");
 
-        scheduleAlerts(savedReservation);
+        alertScheduler.schedule(savedReservation);
 
         return savedReservation;
     }
 
-    // Schedule alerts for the reservation
-    public void scheduleAlerts(Reservation reservation) {
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
-        log.info("스케줄시작 알림: {}", reservation.getAlerts());
-
-        AlertType[] alertTypes = AlertType.values();
-        AlertType lastAlert = alertTypes[alertTypes.length - 1];
-
-        for (AlertType alert : reservation.getAlerts()) {
-            long timeUntilAlert = calculateTimeUntilAlert(reservation, alert);
-
-            if (timeUntilAlert > 0) {
-                log.info("예약 ID {}에 대한 {} 알림 전송 대기중", reservation.getId(), alert.name());
-                scheduler.schedule(() -> sendAlert(reservation, alert), timeUntilAlert, TimeUnit.MILLISECONDS);
-            }
-
-            if (alert == lastAlert && timeUntilAlert == 1) {
-                // 마감 시간이 되면 알림 전송
-                String reviewMessage = "예약 ID " + reservation.getId() + "에 대한 이용한 시설물에 대한 리뷰를 달아주세요.";
-                template.convertAndSend("/topic/alert", reviewMessage);
-            }
-        }
-        scheduler.shutdown();
-    }
-    // 특정 알림까지의 시간 계산
-    private long calculateTimeUntilAlert(Reservation reservation, AlertType alert) {
-        LocalDateTime reservationEndTime = LocalDateTime.of(
-                Integer.parseInt(reservation.getYear()),
-                Integer.parseInt(reservation.getMonth()),
-                Integer.parseInt(reservation.getDay()),
-                (int) (reservation.getEnd_time() * 60 / 60),
-                (int) (reservation.getEnd_time() * 60 % 60)
-        );
-        //알림을 예약할 시간(마감시간-원하는 n분전 알림시간)
-        LocalDateTime alertTime = reservationEndTime.minus(alert.getMinutesBefore(), ChronoUnit.MINUTES);
-
-        return Duration.between(LocalDateTime.now(), alertTime).toMillis();
-    }
-
-    // 알림 전송
-    private void sendAlert(Reservation reservation, AlertType alert) {
-        String alertMessage;
-
-        switch (alert) {
-            case THREE_DAYS_BEFORE:
-                alertMessage = "예약 ID " + reservation.getId() + "에 대한 시설 이용 3일 전 안내";
-                break;
-            case ONE_DAY_BEFORE:
-                alertMessage = "예약 ID " + reservation.getId() + "에 대한 시설 이용 1일 전 안내";
-                break;
-            case THIRTY_MINUTES_BEFORE:
-                alertMessage = "예약 ID " + reservation.getId() + "에 대한 시설 반납 30분전 안내";
-                break;
-            case TEN_MINUTES_BEFORE:
-                alertMessage = "예약 ID " + reservation.getId() + "에 대한 시설 반납 10분 전 안내";
-                break;
-            default:
-                alertMessage = "예약 ID " + reservation.getId() + "에 대한 알림";
-        }
-
-        template.convertAndSend("/topic/alert", alertMessage);
-        log.info("{} 전송 완료", alertMessage);
-
-    }
-
     //반납하기
     @Transactional
     public Reservation returnReservation(Reservation reservation){
         reservation.setBack(true);
-        return reservationRepository.save(reservation);
+        Reservation returnedReservation = reservationRepository.save(reservation);
+        reservationSlotClaimRepository.deleteByReservationId(reservation.getId());
+        // 반납이 롤백되면 슬롯이 비어 보이지 않도록 커밋된 뒤에 해제
+        Long facilityId = reservation.getFacility().getId();
+        afterCommit(() -> reservationSlotIndex.release(facilityId, reservation.getYear(), reservation.getMonth(), reservation.getDay(),
+                reservation.getStart_time(), reservation.getEnd_time()));
+        alertScheduler.cancel(reservation);
+        return returnedReservation;
     }
     //예약 연장
     @Transactional
@@ -158,21 +102,27 @@ public class ReservationService {
             String year = reservation.getYear();
             String month = reservation.getMonth();
             String day = reservation.getDay();
-            List<Reservation> otherReservations = reservationRepository.findAllByFacilityIdAndYearAndMonthAndDay(facilityId, year, month, day)
-                    .stream()
-                    .filter(otherReservation -> !otherReservation.getId().equals(reservation.getId()))  // 현재 예약을 제외
-                    .filter(otherReservation -> otherReservation.getStart_time() > reservation.getStart_time())  // 시작 시간이 newEndTime보다 큰 경우 필터링
-                    .collect(Collectors.toList());
-            // 다른 예약들의 startTime과 비교하여 연장이 가능한지 확인
-            boolean isExtensionAllowed = otherReservations.stream()
-                    .allMatch(otherReservation -> newEndTime <= otherReservation.getStart_time());
+            // 기존 종료 시간부터 새 종료 시간까지 비어 있는지 확인
+            boolean isExtensionAllowed = reservationSlotIndex.claim(facilityId, year, month, day, reservation.getEnd_time(), newEndTime);
 
             if (isExtensionAllowed) {
+                reservation.applySchedule();
+                if (reservation.getEndAt() == null) {
+                    // 날짜를 변환할 수 없는 기존 예약
+                    throw new RuntimeException("예약 연장이 불가능합니다. 예약 날짜를 확인할 수 없습니다.");
+                }
+                LocalDateTime extendFrom = reservation.getEndAt();
+                checkOverlap(facilityId, year, month, day, extendFrom, extendFrom.plusHours(extendTime), "예약 연장이 불가능합니다. 다른 예약과 시간이 겹칩니다.");
+                claimSlots(reservation, reservation.getEnd_time(), newEndTime, "예약 연장이 불가능합니다. 다른 예약과 시간이 겹칩니다.");
                 int newDuration = reservation.getDuration() + extendTime;
                 // 연장 가능한 경우, endTime 업데이트
                 reservation.setEnd_time(newEndTime);
                 reservation.setDuration(newDuration);
-                return reservationRepository.save(reservation);
+                reservation.applySchedule();
+                Reservation extendedReservation = reservationRepository.save(reservation);
+                // 반납 시각이 바뀌었으므로 알림 시각도 갱신
+                alertScheduler.schedule(extendedReservation);
+                return extendedReservation;
             } else {
                 // 연장이 불가능한 경우에 대한 처리
                 throw new RuntimeException("예약 연장이 불가능합니다. 다른 예약과 시간이 겹칩니다.");
@@ -183,24 +133,52 @@ public class ReservationService {
         }
     }
 
-    // 두 예약의 시간 범위가 겹치는지 확인하는 메서드
-    private boolean isOverlap(Reservation reservation, Integer newStartTime, Integer newEndTime) {
-        Integer startTime = reservation.getStart_time();
-        Integer endTime = reservation.getEnd_time();
+    // 점유 행이 없는 기존 예약과 겹치는지 확인 (점유 행 도입 전 예약은 유니크 키로 막을 수 없음)
+    private void checkOverlap(Long facilityId, String year, String month, String day, LocalDateTime startAt, LocalDateTime endAt, String message) {
+        if (!reservationRepository.findOverlapping(facilityId, startAt, endAt).isEmpty()) {
+            log.warn("예약 슬롯 불일치 - 시설물 {}, {}-{}-{}", facilityId, year, month, day);
+            reservationSlotIndex.invalidate(facilityId, year, month, day);
+            throw new RuntimeException(message);
+        }
+    }
 
-        //겹치지 않는 경우
-        if((newStartTime <= startTime && newEndTime <=startTime) || (newStartTime >= endTime && newEndTime >= endTime)){
-            return true;
+    // Redis 점유와 별개로 (시설물, 날짜, 시간) 유니크 키로 DB 에서도 점유한다
+    // 겹치는 예약이 먼저 점유했으면 (커밋 전이면 그 트랜잭션이 끝날 때까지 기다린 뒤) 거절 (슬롯 키 유실/재적재로 Redis 점유가 빠진 경우의 최종 방어)
+    private void claimSlots(Reservation reservation, int startTime, int endTime, String message) {
+        if (reservation.getReservationDate() == null) {
+            throw new RuntimeException(message);
         }
-        else{
-            return false;
+        List<ReservationSlotClaim> claims = new ArrayList<>();
+        for (int hour = Math.max(startTime, 0); hour < Math.min(endTime, ReservationSlotIndex.SLOT_COUNT); hour++) {
+            claims.add(ReservationSlotClaim.of(reservation, hour));
+        }
+        try {
+            reservationSlotClaimRepository.saveAllAndFlush(claims);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            Long facilityId = reservation.getFacility().getId();
+            log.warn("예약 슬롯 불일치 - 시설물 {}, {}", facilityId, reservation.getReservationDate());
+            reservationSlotIndex.invalidate(facilityId, reservation.getYear(), reservation.getMonth(), reservation.getDay());
+            throw new RuntimeException(message);
         }
     }
 
-    //예약 불가능한 시간대
-    public List<Reservation> possible_time(Long facilityId, String year, String month, String day) {
-        return reservationRepository.findAllByFacilityIdAndYearAndMonthAndDay(facilityId, year, month, day);
+    // 트랜잭션 안이면 커밋된 뒤에 실행
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
 
+    //예약 불가능한 시간대
+    public long possible_time(Long facilityId, String year, String month, String day) {
+        return reservationSlotIndex.getSlots(facilityId, year, month, day);
     }
 
 
@@ -209,16 +187,17 @@ public class ReservationService {
         return reservationRepository.findAllByMemberId(memberId, PageRequest.of(page - 1, 10));
     }
 
+    //예약내역(커서 버전, count 쿼리 없이 size+1건 조회)
+    public List<Reservation> getReservation(Long memberId, String after, int size) {
+        Cursor cursor = Cursor.decodeOrFirst(after);
+        return reservationRepository.findAllByMemberIdAfter(memberId, cursor.getTime(), cursor.getId(), PageRequest.of(0, size + 1));
+    }
+
     //예약 내역(페이지 없는 버전)
     public List<Reservation> getReservation_no(Long memberId) {
         return reservationRepository.findAllByMemberId(memberId);
     }
 
-    //예약 내역을 통해 이용한 시설물 추출
-    public Page<Facility> getFacilities(Long memberId,Integer page) {
-        Page<Reservation> reservations = reservationRepository.findAllByMemberId(memberId, PageRequest.of(page - 1, 10));
-        return reservations.map(reservation -> reservation.getFacility());
-    }
     //예약 아이디로 예약 찾기
     public Reservation getReservationById(Long reservationId){
         Reservation reservation = reservationRepository.findById(reservationId).get();
@@ -230,25 +209,17 @@ public class ReservationService {
         return reservations;
     }
 
-    // 오늘 기준 이전 예약 추출
-    public Page<Reservation> useReservation(List<Reservation> reservations, Integer page) {
-        LocalDate today = LocalDate.now();
-
-        List<Reservation> previousReservations = reservations.stream()
-                .filter(reservation ->
-                        Integer.parseInt(reservation.getYear()) < today.getYear()
-                                || (Integer.parseInt(reservation.getYear()) == today.getYear() && Integer.parseInt(reservation.getMonth()) < today.getMonthValue())
-                                || (Integer.parseInt(reservation.getYear()) == today.getYear() && Integer.parseInt(reservation.getMonth()) == today.getMonthValue() && Integer.parseInt(reservation.getDay()) < today.getDayOfMonth())
-                                || (Integer.parseInt(reservation.getYear()) == today.getYear() && Integer.parseInt(reservation.getMonth()) == today.getMonthValue() && Integer.parseInt(reservation.getDay()) == today.getDayOfMonth() && reservation.getStart_time() < today.atStartOfDay().getHour()))
-                .collect(Collectors.toList());
-
-        int pageSize = 10;  // 페이지당 항목 수
-        int start = (page - 1) * pageSize;
-        int end = Math.min(page * pageSize, previousReservations.size());
-        List<Reservation> pageReservations = previousReservations.subList(start, end);
-
-        return new PageImpl<>(pageReservations, PageRequest.of(page - 1, pageSize), previousReservations.size());
-
+    // 오늘 기준 이전 예약 추출 (size+1건을 읽어 다음 페이지 여부 판단)
+    public List<Reservation> useReservation(Long memberId, String cursor, int size) {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime cursorAt = today;
+        Long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            Cursor decoded = Cursor.decode(cursor);
+            cursorAt = decoded.getTime();
+            cursorId = decoded.getId();
+        }
+        return reservationRepository.findPast(memberId, today, cursorAt, cursorId, PageRequest.of(0, size + 1));
     }
 
     public ReservationResponseDTO.InUse getInUse(Long id) {
@@ -256,18 +227,12 @@ public class ReservationService {
                 .orElseThrow(()->new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
         LocalDateTime now = LocalDateTime.now();
-        String year = Integer.toString(now.getYear());
-        String month = Integer.toString(now.getMonthValue());
-        String day = Integer.toString(now.getDayOfMonth());
-        int hour = now.getHour();
-        int minute = now.getMinute();
 
-        Reservation entity = reservationRepository.findInUse(member,year,month,day,hour)
+        Reservation entity = reservationRepository.findInUse(member,now)
                 .orElseThrow(()->new GeneralException(ErrorStatus.NO_CONTENT));
 
-        int leftHour = entity.getEnd_time()-1-hour;
-        int leftMinute = 60 - minute;
-        String remainingTime = leftHour+":"+leftMinute;
+        long leftMinutes = Duration.between(now, entity.getEndAt()).toMinutes();
+        String remainingTime = leftMinutes / 60 + ":" + leftMinutes % 60;
 
         return new ReservationResponseDTO.InUse(entity.getId(), entity.getFacility().getName(), entity.getEnd_time(),remainingTime);
     }
@@ -0,0 +1,155 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.Reservation;
+import com.example.school.reservation.repository.ReservationRepository;
+import com.example.school.reservation.repository.ReservationSlotRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 시설물-날짜별 예약 슬롯 인덱스
+// 하루를 1시간 단위 24개 슬롯으로 보고 점유 여부를 long 비트로 관리한다.
+// 로컬 메모리 -> Redis -> DB 순으로 조회하며, 예약/연장/반납 시 함께 갱신된다.
+// 예약 충돌은 Redis 스크립트의 원자적 점유(claim)로 판정하므로 동시 요청 중 하나만 성공한다.
+// Redis 키가 유실/재적재되면 진행 중인 점유가 빠질 수 있으므로, 최종 판정은 예약 트랜잭션 안의 점유 행(ReservationSlotClaim) 유니크 키가 맡는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotIndex {
+    public static final int SLOT_COUNT = 24;
+    private static final Duration SLOT_TTL = Duration.ofDays(1);
+    private static final long LOCAL_TTL_MILLIS = 1000L;
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final Map<String, LocalSlots> localSlots = new ConcurrentHashMap<>();
+
+    // 점유된 슬롯 비트맵 조회
+    public long getSlots(Long facilityId, String year, String month, String day) {
+        String key = localKey(facilityId, year, month, day);
+        long now = System.currentTimeMillis();
+
+        LocalSlots local = localSlots.get(key);
+        if (local != null && now - local.loadedAt < LOCAL_TTL_MILLIS) {
+            return local.slots;
+        }
+
+        long slots = reservationSlotRepository.findSlots(facilityId, year, month, day)
+                .orElseGet(() -> load(facilityId, year, month, day));
+        localSlots.put(key, new LocalSlots(slots, now));
+        return slots;
+    }
+
+    // 해당 시간대를 원자적으로 점유한다. 다른 요청이 먼저 점유했다면 false.
+    // 트랜잭션 안에서 호출되면 롤백 시 점유를 되돌린다.
+    public boolean claim(Long facilityId, String year, String month, String day, int startTime, int endTime) {
+        long mask = slotMask(startTime, endTime);
+
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            long result = reservationSlotRepository.claim(facilityId, year, month, day, mask);
+            if (result < 0) {
+                load(facilityId, year, month, day);
+                continue;
+            }
+            if (result == 0) {
+                return false;
+            }
+
+            localSlots.computeIfPresent(localKey(facilityId, year, month, day),
+                    (key, local) -> new LocalSlots(local.slots | mask, local.loadedAt));
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            release(facilityId, year, month, day, startTime, endTime);
+                        }
+                    }
+                });
+            }
+            return true;
+        }
+
+        log.warn("예약 슬롯 점유 실패 - 시설물 {}, {}-{}-{}", facilityId, year, month, day);
+        return false;
+    }
+
+    public void release(Long facilityId, String year, String month, String day, int startTime, int endTime) {
+        long mask = slotMask(startTime, endTime);
+        reservationSlotRepository.release(facilityId, year, month, day, mask);
+        localSlots.computeIfPresent(localKey(facilityId, year, month, day),
+                (key, local) -> new LocalSlots(local.slots & ~mask, local.loadedAt));
+    }
+
+    // DB 점유에서 충돌이 나면 비트맵이 DB와 어긋난 것이므로, 트랜잭션이 끝난 뒤(롤백 시 점유 해제 이후) 비워 다시 적재되게 한다
+    public void invalidate(Long facilityId, String year, String month, String day) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(facilityId, year, month, day);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(facilityId, year, month, day);
+            }
+        });
+    }
+
+    private void evict(Long facilityId, String year, String month, String day) {
+        reservationSlotRepository.delete(facilityId, year, month, day);
+        localSlots.remove(localKey(facilityId, year, month, day));
+    }
+
+    // [startTime, endTime) 구간에 해당하는 비트
+    public static long slotMask(int startTime, int endTime) {
+        int from = Math.max(startTime, 0);
+        int to = Math.min(endTime, SLOT_COUNT);
+        if (from >= to) {
+            return 0L;
+        }
+        return ((1L << (to - from)) - 1) << from;
+    }
+
+    // 만료된 로컬 슬롯 정리
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void evictLocalSlots() {
+        long now = System.currentTimeMillis();
+        localSlots.values().removeIf(local -> now - local.loadedAt >= LOCAL_TTL_MILLIS);
+    }
+
+    // Redis에 없으면 DB에서 한 번 읽어 비트맵을 만든다 (반납된 예약은 제외)
+    private long load(Long facilityId, String year, String month, String day) {
+        List<Reservation> reservations = reservationRepository.findAllByFacilityIdAndYearAndMonthAndDay(facilityId, year, month, day);
+
+        long slots = 0L;
+        for (Reservation reservation : reservations) {
+            if (Boolean.TRUE.equals(reservation.getBack())) {
+                continue;
+            }
+            slots |= slotMask(reservation.getStart_time(), reservation.getEnd_time());
+        }
+        reservationSlotRepository.saveIfAbsent(facilityId, year, month, day, slots, SLOT_TTL);
+        log.info("예약 슬롯 적재 - 시설물 {}, {}-{}-{}", facilityId, year, month, day);
+        return slots;
+    }
+
+    private String localKey(Long facilityId, String year, String month, String day) {
+        return facilityId + ":" + year + "-" + month + "-" + day;
+    }
+
+    @AllArgsConstructor
+    private static class LocalSlots {
+        final long slots;
+        final long loadedAt;
+    }
+}
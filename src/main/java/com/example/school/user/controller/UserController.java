@@ -1,6 +1,7 @@
 package com.example.school.user.controller;
 
 import com.example.school.apiPayload.ApiResponse;
+import com.example.school.auth.config.AuthMember;
 import com.example.school.domain.Inquiry;
 import com.example.school.domain.Member;
 import com.example.school.domain.Review;
@@ -9,6 +10,7 @@ import com.example.school.user.dto.UserRequestDTO;
 import com.example.school.user.dto.UserResponseDTO;
 import com.example.school.user.service.UserCommandService;
 import com.example.school.user.service.UserQueryService;
+import com.example.school.validation.annotation.CheckSize;
 import com.example.school.validation.annotation.ExistFacility;
 import com.example.school.validation.annotation.ExistMember;
 
@@ -23,7 +25,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -104,6 +105,16 @@ public class UserController {
         Page<UserResponseDTO.ReviewPreViewDTO> reviewList = userQueryService.findByFacility(facilityId, page);
         return ApiResponse.onSuccess(reviewList);
     }
+
+    @GetMapping("/{facilityId}/reviews/byFacility/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "시설별 리뷰 조회 API (커서)",description = "시설별 리뷰목록을 커서 방식으로 조회하는 API입니다. after 를 비우면 첫 페이지이고, 응답의 nextCursor 를 다음 요청의 after 로 주세요")
+    public ApiResponse<UserResponseDTO.ReviewPreViewListDTO> facilityReviewByCursor(@PathVariable(name="facilityId") Long facilityId,
+                                                                                   @RequestParam(name="after", required = false) String after,
+                                                                                   @RequestParam(name="size", defaultValue = "10") @CheckSize Integer size){
+        return ApiResponse.onSuccess(userQueryService.findByFacility(facilityId, after, size));
+    }
+
     //나의 리뷰 조회
     @GetMapping("/{memberId}/reviews/byMember")
     @PreAuthorize("isAuthenticated()")
@@ -119,6 +130,21 @@ public class UserController {
         return ApiResponse.onSuccess(reviewList);
     }
 
+    @GetMapping("/{memberId}/reviews/byMember/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "나의 리뷰 목록 조회 API (커서)",description = "나의 리뷰목록을 커서 방식으로 조회하는 API입니다. after 를 비우면 첫 페이지이고, 응답의 nextCursor 를 다음 요청의 after 로 주세요")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH003", description = "access 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH004", description = "acess 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH006", description = "acess 토큰 모양이 이상함",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<UserResponseDTO.ReviewPreViewListDTO> getReviewListByCursor(@ExistMember @PathVariable(name = "memberId") Long memberId,
+                                                                                  @RequestParam(name = "after", required = false) String after,
+                                                                                  @RequestParam(name = "size", defaultValue = "10") @CheckSize Integer size){
+        return ApiResponse.onSuccess(userQueryService.getReviewList(memberId, after, size));
+    }
+
     //모든 리뷰 조회
     @GetMapping("/allReviews")
     @Operation(summary = "모든 리뷰 목록 조회 API",description = "모든 리뷰들의 목록을 조회하는 API이며, 페이징을 포함합니다. query String 으로 page 번호를 주세요")
@@ -133,6 +159,19 @@ public class UserController {
         return ApiResponse.onSuccess(reviewList);
     }
 
+    @GetMapping("/allReviews/cursor")
+    @Operation(summary = "모든 리뷰 목록 조회 API (커서)",description = "모든 리뷰목록을 커서 방식으로 조회하는 API입니다. after 를 비우면 첫 페이지이고, 응답의 nextCursor 를 다음 요청의 after 로 주세요")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH003", description = "access 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH004", description = "acess 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH006", description = "acess 토큰 모양이 이상함",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<UserResponseDTO.ReviewPreViewListDTO> getAllReviewListByCursor(@RequestParam(name = "after", required = false) String after,
+                                                                                     @RequestParam(name = "size", defaultValue = "10") @CheckSize Integer size){
+        return ApiResponse.onSuccess(userQueryService.getAllReviewList(after, size));
+    }
+
     //리뷰삭제
     @DeleteMapping("/review/delete")
     @PreAuthorize("isAuthenticated()")
@@ -159,10 +198,8 @@ public class UserController {
 
 
     @GetMapping("/info")
-    public ApiResponse<UserResponseDTO.Info> getInfo(Authentication auth){
-        Member member = (Member)auth.getPrincipal();
-
-        UserResponseDTO.Info res = userQueryService.getInfo(member.getId());
+    public ApiResponse<UserResponseDTO.Info> getInfo(AuthMember authMember){
+        UserResponseDTO.Info res = userQueryService.getInfo(authMember.getMemberId());
 
         return ApiResponse.onSuccess(res);
     }
@@ -1,5 +1,6 @@
 package com.example.school.user.converter;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.domain.Inquiry;
 import com.example.school.domain.Member;
 import com.example.school.domain.Review;
@@ -57,6 +58,21 @@ public class UserConverter {
                 .build();
     }
 
+    //커서 방식 리뷰 목록 (size+1건 조회 결과)
+    public static UserResponseDTO.ReviewPreViewListDTO reviewPreViewListDTO(List<Review> reviewList, int size){
+        List<UserResponseDTO.ReviewPreViewDTO> reviewPreViewDTOList = reviewList.stream()
+                .limit(size)
+                .map(UserConverter::reviewPreViewDTO).collect(Collectors.toList());
+        String nextCursor = Cursor.next(reviewList, size, Review::getCreatedAt, Review::getId);
+
+        return UserResponseDTO.ReviewPreViewListDTO.builder()
+                .listSize(reviewPreViewDTOList.size())
+                .reviewList(reviewPreViewDTOList)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
     public static Inquiry toInquiry(UserRequestDTO.InquiryDTO request){
         return Inquiry.builder()
                 .title(request.getTitle())
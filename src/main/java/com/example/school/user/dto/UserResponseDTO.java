@@ -43,6 +43,8 @@ public class UserResponseDTO {
         Long totalElements;
         Boolean isFirst;
         Boolean isLast;
+        String nextCursor;
+        Boolean hasNext;
     }
     @Builder
     @Getter
@@ -7,6 +7,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
@@ -14,5 +18,21 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findAllByMember(Member member, PageRequest pageRequest);
     Page<Review> findAll(Pageable pageable);
 
+    //커서 (createdAt, id) 다음 리뷰들, 최신순
+    @Query("select r from Review r join fetch r.member " +
+            "where r.member=:member and (r.createdAt<:cursorAt or (r.createdAt=:cursorAt and r.id<:cursorId)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Review> findAllByMemberAfter(Member member, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    @Query("select r from Review r join fetch r.member " +
+            "where r.facility=:facility and (r.createdAt<:cursorAt or (r.createdAt=:cursorAt and r.id<:cursorId)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Review> findAllByFacilityAfter(Facility facility, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    @Query("select r from Review r join fetch r.member " +
+            "where r.createdAt<:cursorAt or (r.createdAt=:cursorAt and r.id<:cursorId) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Review> findAllAfter(LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
 
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.example.school.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.school.domain.Member;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,4 +14,11 @@ public interface UserRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUserId(String userId);
 
     Optional<Member> findByNickname(String nickname);
+
+    //조회한 해시가 그대로일 때만 새 해시로 교체 (그 사이 비밀번호가 바뀌었으면 0)
+    //해시 계산은 트랜잭션 밖에서 끝내고 이 짧은 update 만 트랜잭션으로 실행한다
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password=:newPassword where m.id=:id and m.password=:oldPassword")
+    int replacePassword(Long id, String oldPassword, String newPassword);
 }
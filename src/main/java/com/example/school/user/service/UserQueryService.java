@@ -13,6 +13,10 @@ public interface UserQueryService {
     Page<UserResponseDTO.ReviewPreViewDTO>  getReviewList(Long MemberId, Integer page);
     Page<UserResponseDTO.ReviewPreViewDTO> findByFacility(Long facilityId, Integer page);
     Page<UserResponseDTO.ReviewPreViewDTO> getAllReviewList(Integer page);
+    // 커서 방식 (count 쿼리 없음)
+    UserResponseDTO.ReviewPreViewListDTO getReviewList(Long memberId, String after, int size);
+    UserResponseDTO.ReviewPreViewListDTO findByFacility(Long facilityId, String after, int size);
+    UserResponseDTO.ReviewPreViewListDTO getAllReviewList(String after, int size);
 
     Optional<Review> findById(Long id);
 
@@ -1,5 +1,6 @@
 package com.example.school.user.service;
 
+import com.example.school.apiPayload.Cursor;
 import com.example.school.apiPayload.GeneralException;
 import com.example.school.apiPayload.status.ErrorStatus;
 import com.example.school.domain.Facility;
@@ -68,6 +69,29 @@ public class UserQueryServiceImpl implements UserQueryService{
         return new PageImpl<>(reviewPreViewDTOList, reviewPage.getPageable(), reviewPage.getTotalElements());
     }
 
+    @Override
+    public UserResponseDTO.ReviewPreViewListDTO getReviewList(Long memberId, String after, int size) {
+        Member member = userRepository.getReferenceById(memberId);
+        Cursor cursor = Cursor.decodeOrFirst(after);
+        List<Review> reviews = reviewRepository.findAllByMemberAfter(member, cursor.getTime(), cursor.getId(), PageRequest.of(0, size + 1));
+        return UserConverter.reviewPreViewListDTO(reviews, size);
+    }
+
+    @Override
+    public UserResponseDTO.ReviewPreViewListDTO findByFacility(Long facilityId, String after, int size) {
+        Facility facility = facilityRepository.getReferenceById(facilityId);
+        Cursor cursor = Cursor.decodeOrFirst(after);
+        List<Review> reviews = reviewRepository.findAllByFacilityAfter(facility, cursor.getTime(), cursor.getId(), PageRequest.of(0, size + 1));
+        return UserConverter.reviewPreViewListDTO(reviews, size);
+    }
+
+    @Override
+    public UserResponseDTO.ReviewPreViewListDTO getAllReviewList(String after, int size) {
+        Cursor cursor = Cursor.decodeOrFirst(after);
+        List<Review> reviews = reviewRepository.findAllAfter(cursor.getTime(), cursor.getId(), PageRequest.of(0, size + 1));
+        return UserConverter.reviewPreViewListDTO(reviews, size);
+    }
+
     @Override
     public Optional<Review> findById(Long id) {
         {
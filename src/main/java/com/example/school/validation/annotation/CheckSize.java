@@ -0,0 +1,22 @@
+package com.example.school.validation.annotation;
+
+import com.example.school.validation.validator.SizeCheckValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = SizeCheckValidator.class)
+@Target( { ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CheckSize {
+    String message() default "잘못된 페이지 크기입니다.";
+
+    // 한 번에 조회할 수 있는 최대 건수
+    int max() default 50;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -16,7 +16,7 @@ public class PageCheckValidator implements ConstraintValidator<CheckPage,Integer
 
     @Override
     public boolean isValid(Integer value, ConstraintValidatorContext context) {
-        if(value<1){
+        if(value!=null && value<1){
             context.disableDefaultConstraintViolation();
             throw new GeneralException(ErrorStatus.PAGE_LT_ONE);
         }
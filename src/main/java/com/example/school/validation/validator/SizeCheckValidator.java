@@ -0,0 +1,25 @@
+package com.example.school.validation.validator;
+
+import com.example.school.apiPayload.GeneralException;
+import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.validation.annotation.CheckSize;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SizeCheckValidator implements ConstraintValidator<CheckSize,Integer> {
+    private int max;
+
+    @Override
+    public void initialize(CheckSize constraintAnnotation) {
+        this.max = constraintAnnotation.max();
+    }
+
+    @Override
+    public boolean isValid(Integer value, ConstraintValidatorContext context) {
+        if(value!=null && (value<1 || value>max)){
+            context.disableDefaultConstraintViolation();
+            throw new GeneralException(ErrorStatus.INVALID_SIZE);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.school.announcement.repository;
+
+import com.example.school.domain.enums.AnnouncementType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class AnnouncementCountCacheTest {
+    private static final Long SCHOOL_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private AnnouncementCountCache cache;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        cache = new AnnouncementCountCache(redisTemplate);
+    }
+
+    @Test
+    void countsOncePerGeneration() {
+        AtomicInteger counts = new AtomicInteger();
+
+        assertThat(cache.get(SCHOOL_ID, AnnouncementType.일반, () -> 10 + counts.incrementAndGet())).isEqualTo(11);
+        assertThat(cache.get(SCHOOL_ID, AnnouncementType.일반, () -> 10 + counts.incrementAndGet())).isEqualTo(11);
+
+        cache.evict(SCHOOL_ID);
+        assertThat(cache.get(SCHOOL_ID, AnnouncementType.일반, () -> 10 + counts.incrementAndGet())).isEqualTo(12);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    void evictDuringCountDiscardsStaleWriteBack() {
+        // 개수를 세는 도중 크롤러가 공지사항을 저장하고 캐시를 지운 상황
+        long stale = cache.get(SCHOOL_ID, null, () -> {
+            cache.evict(SCHOOL_ID);
+            return 5;
+        });
+
+        assertThat(stale).isEqualTo(5);
+        assertThat(cache.get(SCHOOL_ID, null, () -> 6)).isEqualTo(6);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.school.auth.config;
+
+import com.example.school.auth.config.util.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+    private static final String LOGIN = "/api/v1/auth/login";
+
+    private final RateLimitFilter filter;
+
+    RateLimitFilterTest() {
+        // Redis 없이 서버 메모리 버킷으로 확인
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(new ArrayList<>(List.of(new RateLimitProperties.Route("POST", LOGIN, "body:userId", 1, 1))));
+        filter = new RateLimitFilter(properties, new RateLimiter(redisTemplate, new SimpleMeterRegistry()), new ObjectMapper());
+    }
+
+    @Test
+    void limitsPerUserAcrossAddresses() throws Exception {
+        assertThat(send(login("10.0.0.1", "{\"userId\":\"student\"}")).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse limited = send(login("10.0.0.2", "{\"userId\":\"student\"}"));
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(limited.getContentAsString()).contains("COMMON429");
+    }
+
+    @Test
+    void matchesEncodedPath() throws Exception {
+        send(login("10.0.0.1", "{\"userId\":\"student\"}"));
+
+        MockHttpServletRequest encoded = login("10.0.0.1", "{\"userId\":\"student\"}");
+        encoded.setRequestURI("/api/v1/auth/%6Cogin");
+        assertThat(send(encoded).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void limitsChunkedBodies() throws Exception {
+        assertThat(send(chunked(login("10.0.0.1", "{\"userId\":\"student\"}"))).getStatus()).isEqualTo(200);
+        assertThat(send(chunked(login("10.0.0.1", "{\"userId\":\"student\"}"))).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void rejectsOversizedBodies() throws Exception {
+        String body = "{\"userId\":\"student\",\"padding\":\"" + "x".repeat(20 * 1024) + "\"}";
+        assertThat(send(chunked(login("10.0.0.1", body))).getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void controllerCanReadBodyAgain() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(login("10.0.0.1", "{\"userId\":\"student\"}"), new MockHttpServletResponse(), chain);
+
+        byte[] body = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"userId\":\"student\"}");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest login(String address, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setServletPath(LOGIN);
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // Content-Length 없이 보낸 요청
+    private MockHttpServletRequest chunked(MockHttpServletRequest request) {
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", LOGIN) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setServletPath(LOGIN);
+        chunked.setRemoteAddr(request.getRemoteAddr());
+        chunked.setContentType(request.getContentType());
+        chunked.setContent(request.getContentAsByteArray());
+        return chunked;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.school.auth.config.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtCodecTest {
+    private final JwtCodec jwtCodec = new JwtCodec();
+
+    @Test
+    void decodesWhatItEncodes() {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put("memberId", 1L);
+
+        Claims decoded = jwtCodec.decode(jwtCodec.encode(claims, 60_000));
+
+        assertThat(decoded.getSubject()).isEqualTo("user@example.com");
+        assertThat(decoded.get("memberId", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = jwtCodec.encode(Jwts.claims().setSubject("user@example.com"), 60_000);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtCodec.decode(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void parsesOncePerRequest() {
+        String token = jwtCodec.encode(Jwts.claims().setSubject("user@example.com"), 60_000);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            Claims first = jwtCodec.decode(token);
+            assertThat(jwtCodec.decode(token)).isSameAs(first);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        // 요청 밖에서는 기억하지 않음
+        assertThat(jwtCodec.decode(token)).isNotSameAs(jwtCodec.decode(token));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.school.auth.config.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+// 토큰 버킷 스크립트를 실제 Redis 에서 확인
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterRedisTest {
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private RateLimiter rateLimiter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        rateLimiter = new RateLimiter(redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void limitsAfterCapacityAndExpiresBucket() {
+        List<RateLimiter.Limit> limits = List.of(new RateLimiter.Limit("login:ip:127.0.0.1", 2, 1));
+
+        assertThat(rateLimiter.tryAcquire(limits)).isZero();
+        assertThat(rateLimiter.tryAcquire(limits)).isZero();
+        assertThat(rateLimiter.tryAcquire(limits)).isBetween(59_000L, 60_000L);
+        // 가득 찰 때까지 걸리는 시간(2분) 뒤 만료
+        assertThat(redisTemplate.getExpire("RateLimit:login:ip:127.0.0.1")).isBetween(1L, 120L);
+    }
+
+    @Test
+    void consumesNothingWhenAnyBucketIsEmpty() {
+        // 사용자 버킷이 비어 거절되면 IP 버킷도 차감하지 않는다
+        RateLimiter.Limit ip = new RateLimiter.Limit("login:ip:127.0.0.1", 5, 1);
+        RateLimiter.Limit user = new RateLimiter.Limit("login:body:userId:abc", 1, 1);
+
+        assertThat(rateLimiter.tryAcquire(List.of(ip, user))).isZero();
+        assertThat(rateLimiter.tryAcquire(List.of(ip, user))).isPositive();
+        assertThat(Double.parseDouble((String) redisTemplate.opsForHash().get("RateLimit:login:ip:127.0.0.1", "t")))
+                .isCloseTo(4.0, offset(0.01));
+    }
+}
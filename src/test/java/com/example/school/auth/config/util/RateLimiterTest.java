@@ -0,0 +1,52 @@
+package com.example.school.auth.config.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RateLimiter rateLimiter = new RateLimiter(stringRedisTemplate, new SimpleMeterRegistry());
+
+    @Test
+    void fallsBackToMemoryWhenRedisIsDown() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        List<RateLimiter.Limit> limits = List.of(new RateLimiter.Limit("login:ip:127.0.0.1", 2, 1));
+
+        assertThat(rateLimiter.tryAcquire(limits)).isZero();
+        assertThat(rateLimiter.tryAcquire(limits)).isZero();
+        // 분당 1개 충전이므로 약 60초 뒤
+        assertThat(rateLimiter.tryAcquire(limits)).isBetween(59_000L, 60_000L);
+        // 실패 후에는 잠시 Redis 를 다시 호출하지 않음
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void consumesNothingWhenAnyBucketIsEmpty() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        RateLimiter.Limit ip = new RateLimiter.Limit("login:ip:127.0.0.1", 5, 1);
+        RateLimiter.Limit user = new RateLimiter.Limit("login:body:userId:abc", 1, 1);
+
+        assertThat(rateLimiter.tryAcquire(List.of(ip, user))).isZero();
+        assertThat(rateLimiter.tryAcquire(List.of(ip, user))).isPositive();
+        // 거절된 요청은 IP 버킷을 쓰지 않았으므로 4개가 남아 있다
+        for (int i = 0; i < 4; i++) {
+            assertThat(rateLimiter.tryAcquire(List.of(ip))).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(List.of(ip))).isPositive();
+    }
+}
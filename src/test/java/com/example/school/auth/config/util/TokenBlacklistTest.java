@@ -0,0 +1,69 @@
+package com.example.school.auth.config.util;
+
+import com.example.school.auth.config.AuthMember;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistTest {
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final TokenBlacklist tokenBlacklist;
+
+    TokenBlacklistTest() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        tokenBlacklist = new TokenBlacklist(stringRedisTemplate, new SimpleMeterRegistry(), 1000, 60_000);
+    }
+
+    @Test
+    void checksSessionAndMemberWithOneLookup() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        Claims claims = claims("abc", 1L, System.currentTimeMillis());
+
+        assertThat(tokenBlacklist.isRevoked(claims, "token")).isFalse();
+        assertThat(tokenBlacklist.isRevoked(claims, "token")).isFalse();
+        // 두 번째는 서버 메모리에서 확인
+        verify(valueOperations, times(1)).multiGet(List.of("Revoked:abc", "TokensBefore:1"));
+    }
+
+    @Test
+    void revokesTokensIssuedBeforeMemberEpoch() {
+        long issuedAt = System.currentTimeMillis() - 10_000;
+        when(valueOperations.multiGet(anyList()))
+                .thenReturn(Arrays.asList(null, String.valueOf(issuedAt / 1000 + 1)));
+
+        assertThat(tokenBlacklist.isRevoked(claims("abc", 1L, issuedAt), "old")).isTrue();
+        assertThat(tokenBlacklist.isRevoked(claims("def", 1L, issuedAt + 5_000), "new")).isFalse();
+    }
+
+    @Test
+    void revokedSessionIsKnownLocally() {
+        tokenBlacklist.revokeSession("abc");
+
+        assertThat(tokenBlacklist.isRevoked(claims("abc", 1L, System.currentTimeMillis()), "token")).isTrue();
+        verify(valueOperations, times(0)).multiGet(anyList());
+    }
+
+    private Claims claims(String sessionId, Long memberId, long issuedAt) {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put(JwtUtils.SESSION_ID_CLAIM, sessionId);
+        claims.put(AuthMember.MEMBER_ID_CLAIM, memberId);
+        claims.setIssuedAt(new Date(issuedAt));
+        return claims;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.school.auth.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenRepositoryTest {
+    private static final Duration TTL = Duration.ofDays(7);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+    }
+
+    @Test
+    void rotatesOnlyCurrentToken() {
+        refreshTokenRepository.create(1L, "family", "jti-1", TTL);
+
+        assertThat(refreshTokenRepository.rotate("family", "jti-1", "jti-2", TTL)).isEqualTo(RefreshTokenRepository.ROTATED);
+        assertThat(redisTemplate.opsForValue().get("RT:family")).isEqualTo("jti-2");
+        assertThat(redisTemplate.getExpire("RT:family")).isPositive();
+    }
+
+    @Test
+    void deletesFamilyWhenOldTokenIsReused() {
+        refreshTokenRepository.create(1L, "family", "jti-1", TTL);
+        refreshTokenRepository.rotate("family", "jti-1", "jti-2", TTL);
+
+        assertThat(refreshTokenRepository.rotate("family", "jti-1", "jti-3", TTL)).isEqualTo(RefreshTokenRepository.REUSED);
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없다
+        assertThat(refreshTokenRepository.rotate("family", "jti-2", "jti-4", TTL)).isEqualTo(RefreshTokenRepository.NOT_FOUND);
+    }
+
+    @Test
+    void deletesEveryFamilyOfMember() {
+        refreshTokenRepository.create(1L, "phone", "jti-1", TTL);
+        refreshTokenRepository.create(1L, "laptop", "jti-2", TTL);
+        refreshTokenRepository.create(2L, "other", "jti-3", TTL);
+
+        refreshTokenRepository.deleteAll(1L);
+
+        assertThat(redisTemplate.hasKey("RT:phone")).isFalse();
+        assertThat(redisTemplate.hasKey("RT:laptop")).isFalse();
+        assertThat(redisTemplate.hasKey("RT:other")).isTrue();
+    }
+
+    @Test
+    void prunesEndedFamiliesOnCreate() {
+        refreshTokenRepository.create(1L, "old", "jti-1", TTL);
+        refreshTokenRepository.delete("old");
+
+        refreshTokenRepository.create(1L, "new", "jti-2", TTL);
+
+        assertThat(redisTemplate.opsForSet().members("RT:member:1")).containsExactly("new");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.school.auth.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class VerificationCodeRepositoryTest {
+    private static final String EMAIL = "user@school.ac.kr";
+    private static final Duration CODE_TTL = Duration.ofMinutes(3);
+    private static final int MAX_ISSUES = 3;
+    private static final Duration ISSUE_WINDOW = Duration.ofHours(1);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private VerificationCodeRepository verificationCodeRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        verificationCodeRepository = new VerificationCodeRepository(redisTemplate);
+    }
+
+    @Test
+    void limitsIssuesPerWindow() {
+        for (int i = 0; i < MAX_ISSUES; i++) {
+            assertThat(issue("code" + i)).isEqualTo(VerificationCodeRepository.ISSUED);
+        }
+
+        assertThat(issue("later")).isEqualTo(VerificationCodeRepository.ISSUE_LIMITED);
+        // 제한된 발급은 마지막 인증번호를 덮어쓰지 않는다
+        assertThat(redisTemplate.opsForValue().get("EmailCode:" + EMAIL)).isEqualTo("code" + (MAX_ISSUES - 1));
+        assertThat(redisTemplate.getExpire("EmailCode:issued:" + EMAIL)).isPositive();
+    }
+
+    @Test
+    void codeCanBeUsedOnlyOnce() {
+        issue("123456");
+
+        assertThat(verify("123456")).isEqualTo(VerificationCodeRepository.VERIFIED);
+        assertThat(verify("123456")).isEqualTo(VerificationCodeRepository.MISMATCH);
+    }
+
+    @Test
+    void normalizesEmail() {
+        issue("123456");
+
+        assertThat(verificationCodeRepository.verify(" User@School.ac.kr ", "123456", MAX_ATTEMPTS, LOCKOUT))
+                .isEqualTo(VerificationCodeRepository.VERIFIED);
+    }
+
+    @Test
+    void locksForFullLockoutAfterMaxAttempts() {
+        issue("123456");
+        assertThat(verify("000000")).isEqualTo(VerificationCodeRepository.MISMATCH);
+        // 첫 실패 이후 시간이 흘러 카운터가 곧 만료될 상황
+        redisTemplate.expire("EmailCode:attempts:" + EMAIL, Duration.ofSeconds(5));
+
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            assertThat(verify("000000")).isEqualTo(VerificationCodeRepository.MISMATCH);
+        }
+
+        assertThat(redisTemplate.getExpire("EmailCode:attempts:" + EMAIL)).isGreaterThan(LOCKOUT.getSeconds() - 5);
+        assertThat(redisTemplate.hasKey("EmailCode:" + EMAIL)).isFalse();
+        assertThat(verify("123456")).isEqualTo(VerificationCodeRepository.LOCKED);
+        assertThat(issue("654321")).isEqualTo(VerificationCodeRepository.LOCKED);
+    }
+
+    @Test
+    void successResetsAttempts() {
+        issue("123456");
+        verify("000000");
+
+        assertThat(verify("123456")).isEqualTo(VerificationCodeRepository.VERIFIED);
+        assertThat(redisTemplate.hasKey("EmailCode:attempts:" + EMAIL)).isFalse();
+    }
+
+    private long issue(String code) {
+        return verificationCodeRepository.issue(EMAIL, code, CODE_TTL, MAX_ISSUES, ISSUE_WINDOW, MAX_ATTEMPTS);
+    }
+
+    private long verify(String code) {
+        return verificationCodeRepository.verify(EMAIL, code, MAX_ATTEMPTS, LOCKOUT);
+    }
+}
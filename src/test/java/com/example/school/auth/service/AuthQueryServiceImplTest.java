@@ -0,0 +1,163 @@
+package com.example.school.auth.service;
+
+import com.example.school.apiPayload.GeneralException;
+import com.example.school.apiPayload.status.ErrorStatus;
+import com.example.school.auth.config.util.JwtCodec;
+import com.example.school.auth.config.util.JwtUtils;
+import com.example.school.auth.config.util.RedisUtils;
+import com.example.school.auth.config.util.TokenBlacklist;
+import com.example.school.auth.dto.AuthRequestDTO;
+import com.example.school.auth.dto.AuthResponseDTO;
+import com.example.school.auth.repository.AuthRepository;
+import com.example.school.auth.repository.RefreshTokenRepository;
+import com.example.school.awsS3.AwsS3Service;
+import com.example.school.domain.Member;
+import com.example.school.facility.repository.SchoolRepository;
+import com.example.school.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthQueryServiceImplTest {
+    private final JwtUtils jwtUtils = new JwtUtils(mock(UserDetailsServiceImpl.class), new JwtCodec());
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TokenBlacklist tokenBlacklist = mock(TokenBlacklist.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final AuthQueryServiceImpl authQueryService = new AuthQueryServiceImpl(
+            userRepository, mock(AuthRepository.class), passwordHasher, mock(MailService.class),
+            jwtUtils, mock(RedisUtils.class), refreshTokenRepository, tokenBlacklist,
+            mock(AwsS3Service.class), mock(SchoolRepository.class));
+
+    @Test
+    void rotatesRefreshTokenWithinFamily() {
+        when(refreshTokenRepository.rotate(eq("family"), eq("jti-1"), anyString(), any())).thenReturn(RefreshTokenRepository.ROTATED);
+
+        AuthResponseDTO.ReissueRespDto res = authQueryService.reissue("Bearer " + refreshToken("jti-1"));
+
+        Claims refresh = jwtUtils.parseToken(res.getNewRefreshToken());
+        assertThat(refresh.get(JwtUtils.SESSION_ID_CLAIM, String.class)).isEqualTo("family");
+        assertThat(refresh.getId()).isNotEqualTo("jti-1");
+        assertThat(jwtUtils.isRefreshToken(refresh)).isTrue();
+        assertThat(jwtUtils.isRefreshToken(jwtUtils.parseToken(res.getNewAccessToken()))).isFalse();
+        verify(tokenBlacklist, never()).revokeSession(anyString());
+    }
+
+    @Test
+    void revokesFamilyWhenRefreshTokenIsReused() {
+        when(refreshTokenRepository.rotate(eq("family"), eq("jti-1"), anyString(), any())).thenReturn(RefreshTokenRepository.REUSED);
+
+        assertThatThrownBy(() -> authQueryService.reissue("Bearer " + refreshToken("jti-1")))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorStatus())
+                .isEqualTo(ErrorStatus.REFRESH_TOKEN_REUSED);
+        verify(tokenBlacklist).revokeSession("family");
+    }
+
+    @Test
+    void rejectsEndedFamily() {
+        when(refreshTokenRepository.rotate(eq("family"), eq("jti-1"), anyString(), any())).thenReturn(RefreshTokenRepository.NOT_FOUND);
+
+        assertThatThrownBy(() -> authQueryService.reissue("Bearer " + refreshToken("jti-1")))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorStatus())
+                .isEqualTo(ErrorStatus.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void upgradesLegacyHashWithTargetedUpdate() {
+        givenMember("{bcrypt}legacy");
+        when(passwordHasher.matches("pw", "{bcrypt}legacy")).thenReturn(true);
+        when(passwordHasher.needsUpgrade("{bcrypt}legacy")).thenReturn(true);
+        when(passwordHasher.hash("pw")).thenReturn("{bcrypt}strong");
+
+        authQueryService.login(loginRequest("pw"));
+
+        verify(userRepository).replacePassword(1L, "{bcrypt}legacy", "{bcrypt}strong");
+    }
+
+    @Test
+    void skipsWriteWhenHashIsCurrent() {
+        givenMember("{bcrypt}strong");
+        when(passwordHasher.matches("pw", "{bcrypt}strong")).thenReturn(true);
+
+        authQueryService.login(loginRequest("pw"));
+
+        verify(passwordHasher, never()).hash(anyString());
+        verify(userRepository, never()).replacePassword(any(), any(), any());
+    }
+
+    @Test
+    void rejectsWrongPasswordWithoutWriting() {
+        givenMember("{bcrypt}legacy");
+
+        assertThatThrownBy(() -> authQueryService.login(loginRequest("wrong")))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorStatus())
+                .isEqualTo(ErrorStatus.PASSWORD_ERROR);
+        verify(userRepository, never()).replacePassword(any(), any(), any());
+    }
+
+    @Test
+    void changesPasswordWithTargetedUpdate() {
+        givenMember("{bcrypt}old");
+        when(passwordHasher.matches("pw", "{bcrypt}old")).thenReturn(true);
+        when(passwordHasher.hash("new-pw")).thenReturn("{bcrypt}new");
+        when(userRepository.replacePassword(1L, "{bcrypt}old", "{bcrypt}new")).thenReturn(1);
+
+        assertThat(authQueryService.changePassword(changePasswordRequest("pw", "new-pw"))).isTrue();
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void reportsFailureWhenPasswordChangedConcurrently() {
+        givenMember("{bcrypt}old");
+        when(passwordHasher.matches("pw", "{bcrypt}old")).thenReturn(true);
+        when(passwordHasher.hash("new-pw")).thenReturn("{bcrypt}new");
+        // 조회와 update 사이에 다른 요청이 비밀번호를 바꾼 경우
+        when(userRepository.replacePassword(1L, "{bcrypt}old", "{bcrypt}new")).thenReturn(0);
+
+        assertThat(authQueryService.changePassword(changePasswordRequest("pw", "new-pw"))).isFalse();
+    }
+
+    @Test
+    void keepsPasswordWhenCurrentPasswordIsWrong() {
+        givenMember("{bcrypt}old");
+
+        assertThat(authQueryService.changePassword(changePasswordRequest("wrong", "new-pw"))).isFalse();
+        verify(passwordHasher, never()).hash(anyString());
+        verify(userRepository, never()).replacePassword(any(), any(), any());
+    }
+
+    private AuthRequestDTO.ChangePasswordReqDTO changePasswordRequest(String currentPassword, String changePassword) {
+        String token = jwtUtils.createToken("user@example.ac.kr", 1L, 2L, "family", null, JwtUtils.TOKEN_VALID_TIME);
+        return AuthRequestDTO.ChangePasswordReqDTO.builder()
+                .token(token).currentPassword(currentPassword).changePassword(changePassword)
+                .build();
+    }
+
+    private void givenMember(String passwordHash) {
+        Member member = Member.builder().id(1L).userId("user").email("user@example.ac.kr").password(passwordHash).build();
+        when(userRepository.findByUserId("user")).thenReturn(Optional.of(member));
+        when(userRepository.findByEmail("user@example.ac.kr")).thenReturn(Optional.of(member));
+    }
+
+    private AuthRequestDTO.LoginReqDTO loginRequest(String password) {
+        return AuthRequestDTO.LoginReqDTO.builder().userId("user").password(password).build();
+    }
+
+    private String refreshToken(String tokenId) {
+        return jwtUtils.createToken("user@example.ac.kr", 1L, 2L, "family", tokenId, JwtUtils.REFRESH_TOKEN_VALID_TIME);
+    }
+}
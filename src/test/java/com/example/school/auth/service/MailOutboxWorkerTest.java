@@ -0,0 +1,281 @@
+package com.example.school.auth.service;
+
+import com.example.school.auth.repository.MailOutboxRepository;
+import com.example.school.domain.MailOutbox;
+import com.example.school.domain.enums.MailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailOutboxWorkerTest {
+    private final MailOutboxRepository mailOutboxRepository = mock(MailOutboxRepository.class);
+    private FakeSmtpServer smtpServer;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (smtpServer != null) {
+            smtpServer.close();
+        }
+    }
+
+    @Test
+    void sendsSameDomainOverOneConnection() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        MailOutboxWorker worker = worker(smtpServer.port(), 10);
+        due(mail(1L, "a@example.com"), mail(2L, "b@example.com"), mail(3L, "c@example.com"));
+
+        worker.poll();
+        worker.shutdown();
+
+        assertThat(smtpServer.connections.get()).isEqualTo(1);
+        assertThat(smtpServer.recipients).containsExactly("<a@example.com>", "<b@example.com>", "<c@example.com>");
+        verify(mailOutboxRepository).markSent(eq(List.of(1L, 2L, 3L)), any());
+    }
+
+    @Test
+    void retriesWithBackoffWhenServerIsDown() throws Exception {
+        int port;
+        try (ServerSocket closed = new ServerSocket(0)) {
+            port = closed.getLocalPort();
+        }
+        MailOutboxWorker worker = worker(port, 10);
+        due(mail(1L, "a@example.com"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.poll();
+        worker.shutdown();
+
+        verify(mailOutboxRepository).markFailed(eq(1L), eq(MailStatus.PENDING),
+                argThat(next -> next.isAfter(before.plusSeconds(4))), anyString());
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void throttlesPerDomain() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        MailOutboxWorker worker = worker(smtpServer.port(), 2);
+        due(mail(1L, "a@example.com"), mail(2L, "b@example.com"), mail(3L, "c@example.com"), mail(4L, "d@other.com"));
+
+        worker.poll();
+        worker.shutdown();
+
+        // example.com 은 버킷 크기(2)만큼만 임대, 다른 도메인은 별도 버킷
+        verify(mailOutboxRepository, times(3)).claim(anyLong(), eq(MailStatus.PENDING), any(), any());
+        verify(mailOutboxRepository, never()).claim(eq(3L), any(), any(), any());
+        assertThat(smtpServer.recipients).hasSize(3);
+    }
+
+    @Test
+    void refundsTokenWhenClaimIsLost() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        MailOutboxWorker worker = worker(smtpServer.port(), 50, 1);
+        due(mail(1L, "a@example.com"), mail(2L, "b@example.com"));
+        // 1번은 다른 서버가 먼저 임대
+        when(mailOutboxRepository.claim(eq(1L), eq(MailStatus.PENDING), any(), any())).thenReturn(0);
+
+        worker.poll();
+        worker.shutdown();
+
+        verify(mailOutboxRepository).claim(eq(2L), eq(MailStatus.PENDING), any(), any());
+        assertThat(smtpServer.recipients).containsExactly("<b@example.com>");
+    }
+
+    @Test
+    void backlogOfOneDomainDoesNotBlockOthers() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        MailOutboxWorker worker = worker(smtpServer.port(), 2, 1);
+        // 가장 오래된 묶음은 모두 example.com, 다른 도메인 메일은 다음 묶음에 있음
+        when(mailOutboxRepository.findDue(eq(MailStatus.PENDING), any(), any(), any(), any()))
+                .thenReturn(List.of(mail(1L, "a@example.com"), mail(2L, "b@example.com")))
+                .thenReturn(List.of(mail(3L, "c@example.com"), mail(4L, "d@other.com")))
+                .thenReturn(List.of());
+        when(mailOutboxRepository.claim(anyLong(), eq(MailStatus.PENDING), any(), any())).thenReturn(1);
+        renewAll();
+
+        worker.poll();
+        worker.shutdown();
+
+        verify(mailOutboxRepository).claim(eq(4L), eq(MailStatus.PENDING), any(), any());
+        verify(mailOutboxRepository, never()).claim(eq(2L), any(), any(), any());
+        verify(mailOutboxRepository, never()).claim(eq(3L), any(), any(), any());
+        assertThat(smtpServer.recipients).containsExactlyInAnyOrder("<a@example.com>", "<d@other.com>");
+    }
+
+    @Test
+    void leaseCoversWholeChunk() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        // 설정한 임대는 10초지만 발송 타임아웃 2초 x (묶음 20건 + 연결) = 42초가 필요
+        MailOutboxWorker worker = new MailOutboxWorker(mailOutboxRepository, sender(smtpServer.port()), new SimpleMeterRegistry(),
+                "noreply@example.com", 50, 20, 2, 6, 5000, 10, 2000, 24, 0.001, 10);
+        due(mail(1L, "a@example.com"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.poll();
+        worker.shutdown();
+
+        verify(mailOutboxRepository).claim(eq(1L), eq(MailStatus.PENDING), any(),
+                argThat(leaseUntil -> !leaseUntil.isBefore(before.plusSeconds(41))));
+    }
+
+    @Test
+    void skipsChunkWhoseLeaseExpiredWhileQueued() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        MailOutboxWorker worker = worker(smtpServer.port(), 10);
+        // 대기열에서 임대 시각을 넘겨 다른 서버가 2번을 가져간 상황
+        when(mailOutboxRepository.renew(eq(List.of(1L, 2L)), any(), any())).thenReturn(1);
+
+        worker.send(List.of(mail(1L, "a@example.com"), mail(2L, "b@example.com")), LocalDateTime.now().minusMinutes(1));
+        worker.shutdown();
+
+        assertThat(smtpServer.connections.get()).isZero();
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void purgesFinishedMailsInBatches() throws Exception {
+        MailOutboxWorker worker = worker(25, 10);
+        when(mailOutboxRepository.deleteFinished(any(), anyInt())).thenReturn(1000, 1000, 3);
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.purge();
+        worker.shutdown();
+
+        // 보관 기간(24시간)이 지난 메일만, 덜 지워질 때까지 반복
+        verify(mailOutboxRepository, times(3)).deleteFinished(
+                argThat(cutoff -> cutoff.isAfter(before.minusHours(24).minusSeconds(1)) && cutoff.isBefore(before.minusHours(23))), eq(1000));
+    }
+
+    private MailOutboxWorker worker(int port, int domainBurst) {
+        return worker(port, 50, domainBurst);
+    }
+
+    private MailOutboxWorker worker(int port, int batchSize, int domainBurst) {
+        return new MailOutboxWorker(mailOutboxRepository, sender(port), new SimpleMeterRegistry(),
+                "noreply@example.com", batchSize, 20, 2, 6, 5000, 120, 2000, 24, 0.001, domainBurst);
+    }
+
+    private JavaMailSenderImpl sender(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+        Properties properties = new Properties();
+        properties.put("mail.smtp.connectiontimeout", 2000);
+        properties.put("mail.smtp.timeout", 2000);
+        sender.setJavaMailProperties(properties);
+        return sender;
+    }
+
+    private void due(MailOutbox... mails) {
+        when(mailOutboxRepository.findDue(eq(MailStatus.PENDING), any(), any(), any(), any())).thenReturn(List.of(mails));
+        when(mailOutboxRepository.claim(anyLong(), eq(MailStatus.PENDING), any(), any())).thenReturn(1);
+        renewAll();
+    }
+
+    private void renewAll() {
+        when(mailOutboxRepository.renew(any(), any(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    private MailOutbox mail(Long id, String recipient) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("인증 번호")
+                .body("이메일 인증코드: 123456")
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 인증 없이 평문으로 받는 최소한의 SMTP 서버
+    static class FakeSmtpServer implements AutoCloseable {
+        final AtomicInteger connections = new AtomicInteger();
+        final List<String> recipients = new CopyOnWriteArrayList<>();
+        private final ServerSocket serverSocket;
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread acceptor = new Thread(this::accept, "fake-smtp");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    connections.incrementAndGet();
+                    handle(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            reply(out, "220 fake");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    reply(out, "250 fake");
+                } else if (command.startsWith("RCPT TO:")) {
+                    recipients.add(line.substring("RCPT TO:".length()).trim());
+                    reply(out, "250 OK");
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 end with .");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // 본문은 확인하지 않음
+                    }
+                    reply(out, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        }
+
+        private void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.school.auth.service;
+
+import com.example.school.apiPayload.GeneralException;
+import com.example.school.apiPayload.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, new SimpleMeterRegistry(), 1, 1, 5000);
+
+        // 스레드 하나는 실행 중, 대기열 한 칸은 대기 중
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.hash("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.hash("second"));
+        while (hasher.queueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> hasher.hash("third"))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorStatus())
+                .isEqualTo(ErrorStatus.PASSWORD_HASH_BUSY);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+
+        release.countDown();
+        assertThat(hasher.matches("first", running.get(5, TimeUnit.SECONDS))).isTrue();
+        assertThat(hasher.matches("second", queued.get(5, TimeUnit.SECONDS))).isTrue();
+        hasher.shutdown();
+    }
+
+    @Test
+    void upgradesWeakerHashes() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(6), new SimpleMeterRegistry(), 1, 4, 5000);
+
+        assertThat(hasher.needsUpgrade(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(hasher.needsUpgrade(hasher.hash("password"))).isFalse();
+        hasher.shutdown();
+    }
+}
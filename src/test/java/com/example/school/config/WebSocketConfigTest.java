@@ -0,0 +1,58 @@
+package com.example.school.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketConfigTest {
+
+    @Test
+    void simpleAndRedisModesUseInMemoryBroker() {
+        for (String brokerMode : new String[]{"simple", "redis"}) {
+            MessageBrokerRegistry registry = mock(MessageBrokerRegistry.class);
+
+            config(brokerMode).configureMessageBroker(registry);
+
+            verify(registry).enableSimpleBroker("/topic", "/queue");
+            verify(registry, never()).enableStompBrokerRelay(any(String[].class));
+            verify(registry).setUserDestinationPrefix("/user");
+        }
+    }
+
+    @Test
+    void relayModeUsesExternalBroker() {
+        MessageBrokerRegistry registry = mock(MessageBrokerRegistry.class);
+        StompBrokerRelayRegistration relay = mock(StompBrokerRelayRegistration.class, RETURNS_SELF);
+        when(registry.enableStompBrokerRelay("/topic", "/queue")).thenReturn(relay);
+        WebSocketConfig config = config("relay");
+        ReflectionTestUtils.setField(config, "relayHost", "broker.internal");
+
+        config.configureMessageBroker(registry);
+
+        verify(registry, never()).enableSimpleBroker(any(String[].class));
+        verify(relay).setRelayHost("broker.internal");
+        verify(relay).setRelayPort(61613);
+        // 다른 서버에 연결된 회원에게도 /user 목적지가 전달되어야 한다
+        verify(relay).setUserDestinationBroadcast("/topic/unresolved-user");
+        verify(relay).setUserRegistryBroadcast("/topic/user-registry");
+        verify(registry).setUserDestinationPrefix("/user");
+    }
+
+    private WebSocketConfig config(String brokerMode) {
+        WebSocketConfig config = new WebSocketConfig(mock(StompAuthChannelInterceptor.class));
+        ReflectionTestUtils.setField(config, "brokerMode", brokerMode);
+        ReflectionTestUtils.setField(config, "relayHost", "localhost");
+        ReflectionTestUtils.setField(config, "relayPort", 61613);
+        ReflectionTestUtils.setField(config, "relayLogin", "guest");
+        ReflectionTestUtils.setField(config, "relayPasscode", "guest");
+        return config;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.school.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class ReservationTest {
+
+    @Test
+    void fillsScheduleFromStrings() {
+        Reservation reservation = reservation("2024", "3", "4");
+
+        reservation.applySchedule();
+
+        assertThat(reservation.getReservationDate()).isEqualTo(LocalDate.of(2024, 3, 4));
+        assertThat(reservation.getStartAt()).isEqualTo(LocalDateTime.of(2024, 3, 4, 9, 0));
+        assertThat(reservation.getEndAt()).isEqualTo(LocalDateTime.of(2024, 3, 4, 10, 0));
+    }
+
+    @Test
+    void leavesScheduleEmptyForUnparsableLegacyRow() {
+        // 변환할 수 없는 기존 행도 반납/연장 저장(@PreUpdate)이 실패하지 않아야 한다
+        Reservation reservation = reservation("2024", "3월", "4");
+        reservation.rememberSchedule();
+
+        assertThatCode(reservation::applySchedule).doesNotThrowAnyException();
+        assertThat(reservation.getReservationDate()).isNull();
+        assertThat(reservation.getStartAt()).isNull();
+        assertThat(reservation.getEndAt()).isNull();
+
+        Reservation invalidDate = reservation("2024", "2", "30");
+        assertThatCode(invalidDate::applySchedule).doesNotThrowAnyException();
+        assertThat(invalidDate.getReservationDate()).isNull();
+    }
+
+    @Test
+    void keepsLoadedScheduleWhenStringsUnchanged() {
+        Reservation reservation = reservation("2024", "3", "4");
+        reservation.setReservationDate(LocalDate.of(2024, 3, 4));
+        reservation.setStartAt(LocalDateTime.of(2024, 3, 4, 9, 0));
+        reservation.setEndAt(LocalDateTime.of(2024, 3, 4, 10, 0));
+        reservation.rememberSchedule();
+
+        reservation.setBack(true);
+        reservation.applySchedule();
+        assertThat(reservation.getEndAt()).isEqualTo(LocalDateTime.of(2024, 3, 4, 10, 0));
+
+        // 연장으로 종료 시간이 바뀌면 다시 계산
+        reservation.setEnd_time(12);
+        reservation.applySchedule();
+        assertThat(reservation.getEndAt()).isEqualTo(LocalDateTime.of(2024, 3, 4, 12, 0));
+    }
+
+    private Reservation reservation(String year, String month, String day) {
+        return Reservation.builder()
+                .year(year).month(month).day(day)
+                .start_time(9).end_time(10).duration(1).back(false)
+                .build();
+    }
+}
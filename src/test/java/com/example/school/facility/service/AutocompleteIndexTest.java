@@ -0,0 +1,109 @@
+package com.example.school.facility.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+    private final AutocompleteIndex index = AutocompleteIndex.build(List.of(
+            entry("체육관", 0),
+            entry("제1 체육관", 0),
+            entry("중앙 도서관", 0),
+            entry("세미나실", 0),
+            entry("테니스장", 0)));
+
+    @Test
+    void matchesPrefixOfAnySuffix() {
+        assertThat(values("체육", 10)).containsExactly("체육관", "제1 체육관");
+        // 띄어쓰기 없는 복합어 중간부터 입력
+        assertThat(values("도서", 10)).containsExactly("중앙 도서관");
+        assertThat(values("앙도서", 10)).containsExactly("중앙 도서관");
+    }
+
+    @Test
+    void matchesChosungFromWordStarts() {
+        assertThat(values("ㅈㅇㄷㅅㄱ", 10)).containsExactly("중앙 도서관");
+        assertThat(values("ㄷㅅㄱ", 10)).containsExactly("중앙 도서관");
+        assertThat(values("ㅊㅇㄱ", 10)).containsExactly("체육관", "제1 체육관");
+        // 단어 중간부터의 초성은 색인하지 않음
+        assertThat(values("ㅇㄷ", 10)).isEmpty();
+    }
+
+    @Test
+    void completesSyllableBeingTyped() {
+        // '유' 에 받침을 넣는 중, 'ㅇ' 까지만 친 경우
+        assertThat(values("체유", 10)).containsExactly("체육관", "제1 체육관");
+        assertThat(values("체ㅇ", 10)).containsExactly("체육관", "제1 체육관");
+        assertThat(values("도ㅅ", 10)).containsExactly("중앙 도서관");
+        // 받침이 이미 있는 음절은 다른 받침으로 바꾸지 않음
+        assertThat(values("체윽", 10)).isEmpty();
+    }
+
+    @Test
+    void acceptsDecomposedJamoInput() {
+        String decomposed = Normalizer.normalize("체육", Normalizer.Form.NFD);
+        assertThat(decomposed).hasSize(5);
+
+        assertThat(values(decomposed, 10)).containsExactly("체육관", "제1 체육관");
+    }
+
+    @Test
+    void correctsOneTypo() {
+        assertThat(values("체욱관", 10)).contains("체육관");
+        assertThat(values("세미실", 10)).contains("세미나실");
+        assertThat(values("테니니스", 10)).contains("테니스장");
+        // 짧은 검색어와 초성 검색어는 보정하지 않음
+        assertThat(values("체욱", 10)).isEmpty();
+        assertThat(values("ㅊㅇㄴ", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksExactBeforeFuzzyThenByScore() {
+        AutocompleteIndex ranked = AutocompleteIndex.build(List.of(
+                entry("테니스장", 1),
+                entry("데니스룸", 10),
+                entry("제2 테니스장", 5)));
+
+        // 정확히 일치하는 후보를 점수순으로 먼저, 오타 보정 후보는 그 뒤
+        assertThat(values(ranked, "테니스", 10)).containsExactly("제2 테니스장", "테니스장", "데니스룸");
+    }
+
+    @Test
+    void prefersShorterValueOnTie() {
+        assertThat(values("육관", 10)).containsExactly("체육관", "제1 체육관");
+    }
+
+    @Test
+    void limitsResults() {
+        List<AutocompleteIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entries.add(entry("강의실 " + i, i));
+        }
+        AutocompleteIndex large = AutocompleteIndex.build(entries);
+
+        assertThat(values(large, "강의", 3)).containsExactly("강의실 29", "강의실 28", "강의실 27");
+        assertThat(large.suggest("강의", 100)).hasSize(AutocompleteIndex.TOP_SIZE);
+    }
+
+    @Test
+    void ignoresBlankQuery() {
+        assertThat(index.suggest("", 10)).isEmpty();
+        assertThat(index.suggest(" - ", 10)).isEmpty();
+    }
+
+    private List<String> values(String query, int limit) {
+        return values(index, query, limit);
+    }
+
+    private static List<String> values(AutocompleteIndex index, String query, int limit) {
+        return index.suggest(query, limit).stream().map(AutocompleteIndex.Entry::getValue).toList();
+    }
+
+    private static AutocompleteIndex.Entry entry(String value, double score) {
+        return new AutocompleteIndex.Entry(value, AutocompleteService.FACILITY, (long) value.hashCode(), score);
+    }
+}
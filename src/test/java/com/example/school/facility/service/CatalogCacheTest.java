@@ -0,0 +1,89 @@
+package com.example.school.facility.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class CatalogCacheTest {
+    private static final Long SCHOOL_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    void sharesLoadedValueThroughRedis() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(newCache().get(CatalogCache.THEME, SCHOOL_ID, String.class, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        // 다른 서버는 DB 대신 Redis 값을 쓴다
+        assertThat(newCache().get(CatalogCache.THEME, SCHOOL_ID, String.class, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictDuringLoadDiscardsStaleWriteBack() {
+        CatalogCache loading = newCache();
+        CatalogCache changing = newCache();
+
+        // 적재 도중 다른 서버에서 시설물이 바뀌어 캐시를 비운 상황
+        String stale = loading.get(CatalogCache.THEME, SCHOOL_ID, String.class, () -> {
+            changing.evict(SCHOOL_ID);
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(newCache().get(CatalogCache.THEME, SCHOOL_ID, String.class, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void evictDropsLocalAndRedisValues() {
+        CatalogCache cache = newCache();
+        cache.get(CatalogCache.MARKER, SCHOOL_ID, String.class, () -> "old");
+
+        cache.evict(SCHOOL_ID);
+
+        assertThat(cache.get(CatalogCache.MARKER, SCHOOL_ID, String.class, () -> "new")).isEqualTo("new");
+        assertThat(redisTemplate.keys("Catalog:" + SCHOOL_ID + ":0:*")).isEmpty();
+    }
+
+    private CatalogCache newCache() {
+        return new CatalogCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(), 100, 300, 24);
+    }
+}
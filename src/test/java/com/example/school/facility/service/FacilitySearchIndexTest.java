@@ -0,0 +1,123 @@
+package com.example.school.facility.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacilitySearchIndexTest {
+    private static final int FACILITIES = 20_000;
+    private static final String[] ROOMS = {"체육관", "세미나실", "강의실", "스터디룸", "테니스장", "풋살장", "음악실", "회의실", "실험실", "열람실",
+            "농구장", "배드민턴장", "탁구장", "수영장", "헬스장", "연습실", "소극장", "전시실", "컴퓨터실", "공연장"};
+    private static final String[] PREFIXES = {"제1", "제2", "대", "소", "중", "공용", "야외", "실내", "다목적", "학생"};
+    private static final String[] BUILDINGS = {"공학관", "인문관", "자연과학관", "중앙도서관", "학생회관", "경영관", "의학관", "미술관",
+            "음악관", "법학관", "사범관", "생활관", "국제관", "산학협력관", "체육부", "본관"};
+    private static final String[] ITEMS = {"빔프로젝터", "화이트보드", "농구공", "피아노", "마이크", "노트북", "음향장비", "라켓", "탁구대", "이젤"};
+    private static final String[] KEYWORDS = {"배드민턴장", "실내 수영장", "다목적 소극장", "산학협력관", "탁구대", "세미나"};
+
+    @Test
+    void ranksLikeMatchesFirstAndOnlyReturnsFullMatches() {
+        List<FacilitySearchIndex.Document> documents = documents(FACILITIES);
+        FacilitySearchIndex index = new FacilitySearchIndex();
+        documents.forEach(index::put);
+
+        for (String keyword : KEYWORDS) {
+            Set<Long> nameMatches = new HashSet<>(likeScan(documents, keyword));
+            List<Long> searched = index.search(keyword);
+
+            // 기존 LIKE 검색 결과가 정확히 맨 앞에 온다
+            assertThat(new HashSet<>(searched.subList(0, nameMatches.size()))).as(keyword).isEqualTo(nameMatches);
+            // 나머지도 검색어의 모든 gram 을 어느 필드에든 포함한다
+            Set<String> queryTerms = FacilitySearchIndex.tokenize(keyword);
+            for (Long id : searched.subList(nameMatches.size(), searched.size())) {
+                assertThat(documentTerms(documents.get((int) (id - 1)))).as("%s / %d", keyword, id).containsAll(queryTerms);
+            }
+        }
+    }
+
+    @Test
+    void compactedIndexMatchesFreshIndex() {
+        List<FacilitySearchIndex.Document> documents = documents(4_000);
+        FacilitySearchIndex index = new FacilitySearchIndex();
+        documents.forEach(index::put);
+        // 절반 넘게 지워 다시 채번되게 한다
+        List<FacilitySearchIndex.Document> remaining = new ArrayList<>();
+        for (FacilitySearchIndex.Document document : documents) {
+            if (document.getId() % 3 == 0) {
+                remaining.add(document);
+            } else {
+                index.remove(document.getId());
+            }
+        }
+        index.put(remaining.get(0));
+
+        FacilitySearchIndex fresh = new FacilitySearchIndex();
+        remaining.stream().skip(1).forEach(fresh::put);
+        fresh.put(remaining.get(0));
+
+        assertThat(index.size()).isEqualTo(remaining.size());
+        for (String keyword : KEYWORDS) {
+            assertThat(new HashSet<>(index.search(keyword))).as(keyword).isEqualTo(new HashSet<>(fresh.search(keyword)));
+        }
+    }
+
+    @Test
+    void ranksNameMatchesFirst() {
+        FacilitySearchIndex index = new FacilitySearchIndex();
+        index.put(new FacilitySearchIndex.Document(1L, "세미나실", null, "체육관 옆 세미나실", null, null, "공학관"));
+        index.put(new FacilitySearchIndex.Document(2L, "체육관", null, null, null, null, "학생회관"));
+        index.put(new FacilitySearchIndex.Document(3L, "테니스장", null, null, null, null, "체육관"));
+
+        assertThat(index.search("체육관")).containsExactly(2L, 3L, 1L);
+
+        index.remove(2L);
+        assertThat(index.search("체육관")).containsExactly(3L, 1L);
+        assertThat(index.search("체")).containsExactly(1L, 3L);
+    }
+
+    // id 는 1부터 순서대로
+    static List<FacilitySearchIndex.Document> documents(int count) {
+        Random random = new Random(42);
+        List<FacilitySearchIndex.Document> documents = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            documents.add(new FacilitySearchIndex.Document(id,
+                    PREFIXES[random.nextInt(PREFIXES.length)] + " " + ROOMS[random.nextInt(ROOMS.length)] + " " + id % 500,
+                    null,
+                    ROOMS[random.nextInt(ROOMS.length)] + " 대여",
+                    ITEMS[random.nextInt(ITEMS.length)],
+                    random.nextInt(10) + "층",
+                    BUILDINGS[random.nextInt(BUILDINGS.length)]));
+        }
+        return documents;
+    }
+
+    // 기존 findByNameLikeAndSchool 과 같은 '%keyword%' 이름 검색 (공백 무시)
+    private static List<Long> likeScan(List<FacilitySearchIndex.Document> documents, String keyword) {
+        String needle = normalize(keyword);
+        List<Long> ids = new ArrayList<>();
+        for (FacilitySearchIndex.Document document : documents) {
+            if (normalize(document.getName()).contains(needle)) {
+                ids.add(document.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Set<String> documentTerms(FacilitySearchIndex.Document document) {
+        Set<String> terms = new HashSet<>();
+        for (String field : document.fields()) {
+            terms.addAll(FacilitySearchIndex.tokenize(field));
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+}
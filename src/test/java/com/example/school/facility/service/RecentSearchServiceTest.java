@@ -0,0 +1,122 @@
+package com.example.school.facility.service;
+
+import com.example.school.facility.repository.RecentSearchRepository;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RecentSearchServiceTest {
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    // 서버로 보낸 명령 (응답을 받을 때마다 기록됨)
+    private static final Queue<String> COMMANDS = new ConcurrentLinkedQueue<>();
+
+    private static ClientResources clientResources;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private RecentSearchService recentSearchService;
+
+    @BeforeAll
+    static void connect() {
+        clientResources = DefaultClientResources.builder()
+                .commandLatencyRecorder((local, remote, commandType, firstResponseLatency, completionLatency) -> COMMANDS.add(commandType.name()))
+                .build();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)),
+                LettuceClientConfiguration.builder().clientResources(clientResources).build());
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        recentSearchService = new RecentSearchService(new RecentSearchRepository(redisTemplate), 3, 30);
+    }
+
+    @Test
+    void keepsOnlyLatestSearches() {
+        Map<String, Long> searches = new LinkedHashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            searches.put("검색어" + i, 1000L * i);
+        }
+        recentSearchService.record(7L, searches);
+        recentSearchService.record(7L, Map.of("검색어2", 9000L));
+
+        assertThat(recentSearchService.getSearchLog(7L).getList()).containsExactly("검색어2", "검색어5", "검색어4");
+        assertThat(redisTemplate.opsForZSet().size("SearchLog:7")).isEqualTo(3);
+    }
+
+    @Test
+    void sendsOneCommandPerSearch() {
+        recentSearchService.record(7L, Map.of("도서관", 1000L));
+        COMMANDS.clear();
+
+        recentSearchService.record(7L, Map.of("체육관", 2000L, "강당", 3000L));
+        recentSearchService.record(8L, Map.of("체육관", 2000L));
+
+        // 추가, 개수 제한, 만료 갱신이 스크립트 하나로 한 번에 실행된다
+        assertThat(COMMANDS).containsExactly("EVAL", "EVAL");
+        assertThat(recentSearchService.getSearchLog(7L).getList()).containsExactly("강당", "체육관", "도서관");
+        assertThat(redisTemplate.getExpire("SearchLog:8", TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void refreshesTtl() {
+        recentSearchService.record(7L, Map.of("체육관", 1000L));
+
+        Long ttl = redisTemplate.getExpire("SearchLog:7", TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(TimeUnit.DAYS.toSeconds(30) - 5, TimeUnit.DAYS.toSeconds(30));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesInsidePipelineOnFreshRedis() {
+        // 재시작한 Redis 처럼 스크립트 캐시가 빈 상태
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().scriptFlush();
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                recentSearchService.record((RedisOperations<String, String>) operations, 7L, Map.of("도서관", 1000L, "체육관", 2000L));
+                return null;
+            }
+        });
+
+        assertThat(recentSearchService.getSearchLog(7L).getList()).isEqualTo(List.of("체육관", "도서관"));
+        assertThat(redisTemplate.getExpire("SearchLog:7", TimeUnit.SECONDS)).isPositive();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.school.facility.service;
+
+import com.example.school.facility.repository.SearchCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchLogWriterTest {
+    private static final Long SCHOOL_ID = 1L;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisOperations<String, String> pipeline;
+    private SearchCountRepository searchCountRepository;
+    private TrendingSearchService trendingSearchService;
+    private RecentSearchService recentSearchService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        pipeline = mock(RedisOperations.class);
+        searchCountRepository = mock(SearchCountRepository.class);
+        trendingSearchService = mock(TrendingSearchService.class);
+        recentSearchService = mock(RecentSearchService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(pipeline);
+            return List.of();
+        });
+    }
+
+    @Test
+    void dropsAndCountsWhenQueueIsFull() {
+        SearchLogWriter writer = writer(2);
+
+        assertThat(writer.offer(7L, SCHOOL_ID, "체육관")).isTrue();
+        assertThat(writer.offer(7L, SCHOOL_ID, "강당")).isTrue();
+        assertThat(writer.offer(7L, SCHOOL_ID, "운동장")).isFalse();
+
+        assertThat(meterRegistry.counter("facility.search-log.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("facility.search-log.pending").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void flushesOnePipelinePerBatch() {
+        SearchLogWriter writer = writer(2000);
+        writer.offer(7L, SCHOOL_ID, "체육관");
+        writer.offer(8L, SCHOOL_ID, "체육관");
+        writer.offer(7L, SCHOOL_ID, "강당");
+
+        writer.flush();
+
+        // 같은 검색어는 합쳐서 한 번에 쓴다
+        verify(stringRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(searchCountRepository).increment(pipeline, SCHOOL_ID, "체육관", 2L);
+        verify(searchCountRepository).increment(pipeline, SCHOOL_ID, "강당", 1L);
+        verify(recentSearchService).record(eq(pipeline), eq(7L), any());
+        verify(recentSearchService).record(eq(pipeline), eq(8L), any());
+        assertThat(meterRegistry.summary("facility.search-log.batch.size").totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void splitsLargeBacklogIntoBatches() {
+        SearchLogWriter writer = writer(2000);
+        for (int i = 0; i < 1500; i++) {
+            writer.offer((long) i, SCHOOL_ID, "체육관");
+        }
+
+        writer.flush();
+
+        // 1000건씩 나눠 파이프라인 두 번
+        verify(stringRedisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        verify(searchCountRepository).increment(pipeline, SCHOOL_ID, "체육관", 1000L);
+        verify(searchCountRepository).increment(pipeline, SCHOOL_ID, "체육관", 500L);
+        assertThat(meterRegistry.summary("facility.search-log.batch.size").count()).isEqualTo(2);
+    }
+
+    @Test
+    void countsFailedBatchWithoutRetrying() {
+        SearchLogWriter writer = writer(10);
+        writer.offer(7L, SCHOOL_ID, "체육관");
+        doThrow(new QueryTimeoutException("redis down")).when(stringRedisTemplate).executePipelined(any(SessionCallback.class));
+
+        writer.flush();
+
+        assertThat(meterRegistry.counter("facility.search-log.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("facility.search-log.pending").gauge().value()).isZero();
+
+        writer.flush();
+        verify(stringRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(trendingSearchService, never()).record(any(), any(), any(), anyLong(), anyLong());
+    }
+
+    private SearchLogWriter writer(int capacity) {
+        return new SearchLogWriter(stringRedisTemplate, searchCountRepository, trendingSearchService, recentSearchService,
+                meterRegistry, capacity);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.enums.AlertType;
+import com.example.school.reservation.converter.ReservationConverter;
+import com.example.school.reservation.dto.ReservationResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AlertRelayTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpMessagingTemplate template;
+    private StringRedisTemplate stringRedisTemplate;
+    private ReservationResponseDTO.AlertBatchDTO batch;
+
+    @BeforeEach
+    void setUp() {
+        template = mock(SimpMessagingTemplate.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        batch = ReservationConverter.alertBatchDTO(List.of(
+                ReservationConverter.alertDTO(1L, AlertType.TEN_MINUTES_BEFORE, "10분 전"),
+                ReservationConverter.alertDTO(2L, AlertType.THIRTY_MINUTES_BEFORE, "30분 전")));
+    }
+
+    @Test
+    void simpleModeDeliversToLocalBroker() {
+        AlertRelay relay = relay("simple", template);
+
+        relay.publish(7L, batch);
+
+        verify(template).convertAndSendToUser("7", AlertScheduler.ALERT_DESTINATION, batch);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void redisModeFansOutThroughPubSub() {
+        AlertRelay publisher = relay("redis", template);
+
+        publisher.publish(7L, batch);
+
+        // 발행한 서버도 자기 구독으로 받아서 전송하므로 직접 보내지 않는다
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(AlertRelay.CHANNEL), json.capture());
+        verify(template, never()).convertAndSendToUser(anyString(), anyString(), any());
+
+        // 회원 세션이 연결된 다른 서버가 구독으로 받아 자기 브로커에 전달
+        SimpMessagingTemplate otherNodeTemplate = mock(SimpMessagingTemplate.class);
+        AlertRelay subscriber = relay("redis", otherNodeTemplate);
+        subscriber.onMessage(new DefaultMessage(AlertRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                json.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        ArgumentCaptor<ReservationResponseDTO.AlertBatchDTO> delivered = ArgumentCaptor.forClass(ReservationResponseDTO.AlertBatchDTO.class);
+        verify(otherNodeTemplate).convertAndSendToUser(eq("7"), eq(AlertScheduler.ALERT_DESTINATION), delivered.capture());
+        assertThat(delivered.getValue().getListSize()).isEqualTo(2);
+        assertThat(delivered.getValue().getAlerts())
+                .extracting(ReservationResponseDTO.AlertDTO::getReservationId, ReservationResponseDTO.AlertDTO::getAlertType)
+                .containsExactly(
+                        tuple(1L, AlertType.TEN_MINUTES_BEFORE),
+                        tuple(2L, AlertType.THIRTY_MINUTES_BEFORE));
+    }
+
+    @Test
+    void ignoresMalformedRelayedMessage() {
+        AlertRelay subscriber = relay("redis", template);
+
+        subscriber.onMessage(new DefaultMessage(AlertRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        verifyNoInteractions(template);
+    }
+
+    private AlertRelay relay(String brokerMode, SimpMessagingTemplate template) {
+        AlertRelay relay = new AlertRelay(template, stringRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(relay, "brokerMode", brokerMode);
+        return relay;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.enums.AlertType;
+import com.example.school.reservation.dto.ReservationResponseDTO;
+import com.example.school.reservation.repository.AlertQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AlertSchedulerTest {
+    private AlertQueueRepository alertQueueRepository;
+    private AlertRelay alertRelay;
+    private SimpleMeterRegistry meterRegistry;
+    private AlertScheduler alertScheduler;
+
+    @BeforeEach
+    void setUp() {
+        alertQueueRepository = mock(AlertQueueRepository.class);
+        alertRelay = mock(AlertRelay.class);
+        meterRegistry = new SimpleMeterRegistry();
+        alertScheduler = new AlertScheduler(alertQueueRepository, alertRelay, meterRegistry);
+    }
+
+    @Test
+    void sendsDueAlertsGroupedByMember() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> due = new LinkedHashMap<>();
+        due.put("1:7:TEN_MINUTES_BEFORE", now - 1000);
+        due.put("2:7:THIRTY_MINUTES_BEFORE", now - 1000);
+        due.put("3:8:TEN_MINUTES_BEFORE", now - 1000);
+        givenDue(due);
+
+        alertScheduler.dispatch();
+
+        ArgumentCaptor<ReservationResponseDTO.AlertBatchDTO> member7 = ArgumentCaptor.forClass(ReservationResponseDTO.AlertBatchDTO.class);
+        verify(alertRelay).publish(eq(7L), member7.capture());
+        assertThat(member7.getValue().getListSize()).isEqualTo(2);
+        verify(alertRelay).publish(eq(8L), any());
+        assertThat(counter("reservation.alert.fired")).isEqualTo(3);
+        assertThat(counter("reservation.alert.frames")).isEqualTo(2);
+        assertThat(counter("reservation.alert.late")).isZero();
+    }
+
+    @Test
+    void coalescesAlertsAcrossPollsIntoOneFramePerMember() {
+        // 한 번에 500건이 꺼내져 같은 틱에 다시 조회해도 회원별 프레임은 하나
+        long now = System.currentTimeMillis();
+        Map<String, Long> firstPoll = new LinkedHashMap<>();
+        for (long reservationId = 1; reservationId <= 500; reservationId++) {
+            firstPoll.put(reservationId + ":7:TEN_MINUTES_BEFORE", now - 1000);
+        }
+        Map<String, Long> secondPoll = new LinkedHashMap<>();
+        secondPoll.put("501:7:THIRTY_MINUTES_BEFORE", now - 1000);
+        secondPoll.put("502:8:TEN_MINUTES_BEFORE", now - 1000);
+        when(alertQueueRepository.pollDue(anyLong(), anyInt())).thenReturn(firstPoll).thenReturn(secondPoll).thenReturn(Map.of());
+
+        alertScheduler.dispatch();
+
+        verify(alertQueueRepository, times(2)).pollDue(anyLong(), anyInt());
+        ArgumentCaptor<ReservationResponseDTO.AlertBatchDTO> member7 = ArgumentCaptor.forClass(ReservationResponseDTO.AlertBatchDTO.class);
+        verify(alertRelay, times(1)).publish(eq(7L), member7.capture());
+        assertThat(member7.getValue().getListSize()).isEqualTo(501);
+        assertThat(member7.getValue().getAlerts())
+                .extracting(ReservationResponseDTO.AlertDTO::getReservationId)
+                .startsWith(1L, 2L)
+                .endsWith(500L, 501L);
+        ArgumentCaptor<ReservationResponseDTO.AlertBatchDTO> member8 = ArgumentCaptor.forClass(ReservationResponseDTO.AlertBatchDTO.class);
+        verify(alertRelay, times(1)).publish(eq(8L), member8.capture());
+        assertThat(member8.getValue().getAlerts())
+                .extracting(ReservationResponseDTO.AlertDTO::getAlertType)
+                .containsExactly(AlertType.TEN_MINUTES_BEFORE);
+        assertThat(counter("reservation.alert.frames")).isEqualTo(2);
+        assertThat(meterRegistry.summary("reservation.alert.batch.size").totalAmount()).isEqualTo(502);
+    }
+
+    @Test
+    void dropsAlertsPastTheirWindow() {
+        // 10분 전 알림이 11분 늦게 꺼내진 경우 (반납 시각이 이미 지남)
+        givenDue(Map.of("1:7:TEN_MINUTES_BEFORE", System.currentTimeMillis() - 11 * 60 * 1000L));
+
+        alertScheduler.dispatch();
+
+        verify(alertRelay, never()).publish(any(), any());
+        assertThat(counter("reservation.alert.expired")).isEqualTo(1);
+    }
+
+    @Test
+    void sendsLateAlertsAndCountsThem() {
+        givenDue(Map.of("1:7:THIRTY_MINUTES_BEFORE", System.currentTimeMillis() - 60 * 1000L));
+
+        alertScheduler.dispatch();
+
+        verify(alertRelay).publish(eq(7L), any());
+        assertThat(counter("reservation.alert.late")).isEqualTo(1);
+        assertThat(counter("reservation.alert.expired")).isZero();
+    }
+
+    @Test
+    void skipsMalformedKeysWithoutAbortingTick() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> due = new LinkedHashMap<>();
+        due.put("garbage", now);
+        due.put("x:7:TEN_MINUTES_BEFORE", now);
+        due.put("1:7:NEXT_WEEK", now);
+        due.put("2:8:TEN_MINUTES_BEFORE", now);
+        givenDue(due);
+
+        alertScheduler.dispatch();
+
+        verify(alertRelay).publish(eq(8L), any());
+        verify(alertRelay, never()).publish(eq(7L), any());
+    }
+
+    @Test
+    void requeuesAlertsWhosePublishFailed() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> due = new LinkedHashMap<>();
+        due.put("1:7:TEN_MINUTES_BEFORE", now - 1000);
+        due.put("2:8:TEN_MINUTES_BEFORE", now - 1000);
+        givenDue(due);
+        doThrow(new IllegalStateException("broker unavailable")).when(alertRelay).publish(eq(7L), any());
+
+        alertScheduler.dispatch();
+
+        // 실패한 회원의 알림만 원래 시각으로 되돌리고, 다른 회원은 그대로 전송
+        verify(alertQueueRepository).addAll(Map.of("1:7:TEN_MINUTES_BEFORE", now - 1000));
+        verify(alertRelay).publish(eq(8L), any());
+        assertThat(counter("reservation.alert.retried")).isEqualTo(1);
+        assertThat(counter("reservation.alert.fired")).isEqualTo(1);
+    }
+
+    private void givenDue(Map<String, Long> due) {
+        when(alertQueueRepository.pollDue(anyLong(), anyInt())).thenReturn(due).thenReturn(Map.of());
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+}
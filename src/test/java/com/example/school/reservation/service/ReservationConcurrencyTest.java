@@ -0,0 +1,207 @@
+package com.example.school.reservation.service;
+
+import com.example.school.announcement.repository.AnnouncementCountCache;
+import com.example.school.config.QueryDslConfig;
+import com.example.school.domain.Facility;
+import com.example.school.domain.Member;
+import com.example.school.domain.Reservation;
+import com.example.school.facility.repository.FacilityRepository;
+import com.example.school.facility.service.FacilityService;
+import com.example.school.reservation.dto.ReservationRequestDTO;
+import com.example.school.reservation.repository.ReservationRepository;
+import com.example.school.reservation.repository.ReservationSlotClaimRepository;
+import com.example.school.reservation.repository.ReservationSlotRepositoryImpl;
+import com.example.school.user.repository.UserRepository;
+import com.example.school.user.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 실제 MySQL/Redis 위에서 한 시설물에 동시에 예약을 넣어 겹치는 예약이 저장되지 않는지 확인
+// Redis 슬롯 키를 계속 지워 재적재 도중의 점유 누락까지 재현한다
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create", "spring.datasource.hikari.maximum-pool-size=20"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationConcurrencyTest {
+    private static final String YEAR = "2024";
+    private static final String MONTH = "3";
+    private static final String DAY = "4";
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 30;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @MockBean
+    private AnnouncementCountCache announcementCountCache;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentClaimsNeverOverlap() throws Exception {
+        Member member = userRepository.save(Member.builder().name("tester").build());
+        Facility facility = facilityRepository.save(Facility.builder().name("체육관").build());
+        Long facilityId = facility.getId();
+
+        ReservationSlotRepositoryImpl slotRepository = new ReservationSlotRepositoryImpl(new StringRedisTemplate(connectionFactory));
+        ReservationService reservationService = newReservationService(slotRepository);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+        // 슬롯 키 유실: 진행 중인 예약의 Redis 점유가 빠진 채 DB 에서 다시 적재된다
+        executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                slotRepository.delete(facilityId, YEAR, MONTH, DAY);
+                Thread.sleep(2);
+            }
+            return null;
+        });
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            workers.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int startTime = random.nextInt(ReservationSlotIndex.SLOT_COUNT);
+                    int endTime = Math.min(startTime + 1 + random.nextInt(3), ReservationSlotIndex.SLOT_COUNT);
+                    ReservationRequestDTO.ReservationDTO request = request(member.getId(), facilityId, startTime, endTime);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> reservationService.createReservation(request));
+                        created.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // 겹쳐서 거절된 예약
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Reservation> reservations = reservationRepository.findAllByFacilityIdAndYearAndMonthAndDay(facilityId, YEAR, MONTH, DAY).stream()
+                .filter(reservation -> !Boolean.TRUE.equals(reservation.getBack()))
+                .toList();
+        assertThat(reservations).hasSize(created.get()).isNotEmpty();
+        for (int i = 0; i < reservations.size(); i++) {
+            for (int j = i + 1; j < reservations.size(); j++) {
+                Reservation a = reservations.get(i);
+                Reservation b = reservations.get(j);
+                assertThat(a.getStart_time() < b.getEnd_time() && b.getStart_time() < a.getEnd_time())
+                        .as("%d~%d and %d~%d overlap", a.getStart_time(), a.getEnd_time(), b.getStart_time(), b.getEnd_time())
+                        .isFalse();
+            }
+        }
+        // 저장된 예약마다 점유한 시간만큼 점유 행이 남아 있다
+        int hours = reservations.stream().mapToInt(reservation -> reservation.getEnd_time() - reservation.getStart_time()).sum();
+        assertThat(reservationSlotClaimRepository.count()).isEqualTo(hours);
+    }
+
+    private ReservationService newReservationService(ReservationSlotRepositoryImpl slotRepository) {
+        UserService userService = mock(UserService.class);
+        when(userService.findById(any())).thenAnswer(invocation -> userRepository.findById(invocation.getArgument(0)).get());
+        FacilityService facilityService = mock(FacilityService.class);
+        when(facilityService.findById(any())).thenAnswer(invocation -> facilityRepository.findById(invocation.getArgument(0)).get());
+
+        ReservationSlotIndex reservationSlotIndex = new ReservationSlotIndex(reservationRepository, slotRepository);
+        return new ReservationService(reservationRepository, userService, facilityService, userRepository,
+                reservationSlotIndex, mock(AlertScheduler.class), reservationSlotClaimRepository);
+    }
+
+    private ReservationRequestDTO.ReservationDTO request(Long memberId, Long facilityId, int startTime, int endTime) {
+        ReservationRequestDTO.ReservationDTO request = mock(ReservationRequestDTO.ReservationDTO.class);
+        when(request.getMemberId()).thenReturn(memberId);
+        when(request.getFacilityId()).thenReturn(facilityId);
+        when(request.getUsers()).thenReturn(1);
+        when(request.getStartTime()).thenReturn(startTime);
+        when(request.getEndTime()).thenReturn(endTime);
+        when(request.getDuration()).thenReturn(endTime - startTime);
+        when(request.getYear()).thenReturn(YEAR);
+        when(request.getMonth()).thenReturn(MONTH);
+        when(request.getDay()).thenReturn(DAY);
+        return request;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.school.reservation.service;
+
+import com.example.school.domain.Facility;
+import com.example.school.domain.Reservation;
+import com.example.school.domain.ReservationSlotClaim;
+import com.example.school.facility.service.FacilityService;
+import com.example.school.reservation.repository.ReservationRepository;
+import com.example.school.reservation.repository.ReservationSlotClaimRepository;
+import com.example.school.user.repository.UserRepository;
+import com.example.school.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationServiceTest {
+    private ReservationRepository reservationRepository;
+    private FacilityService facilityService;
+    private ReservationSlotIndex reservationSlotIndex;
+    private AlertScheduler alertScheduler;
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+    private ReservationService reservationService;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        facilityService = mock(FacilityService.class);
+        reservationSlotIndex = mock(ReservationSlotIndex.class);
+        alertScheduler = mock(AlertScheduler.class);
+        reservationSlotClaimRepository = mock(ReservationSlotClaimRepository.class);
+        reservationService = new ReservationService(reservationRepository, mock(UserService.class), facilityService,
+                mock(UserRepository.class), reservationSlotIndex, alertScheduler, reservationSlotClaimRepository);
+
+        Facility facility = Facility.builder().id(1L).build();
+        reservation = Reservation.builder()
+                .id(10L).facility(facility).year("2024").month("3").day("4")
+                .start_time(9).end_time(10).duration(1).back(false)
+                .build();
+        when(reservationRepository.findById(10L)).thenReturn(Optional.of(reservation));
+        when(reservationSlotIndex.claim(1L, "2024", "3", "4", 10, 12)).thenReturn(true);
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void extendRejectedWhenDbHasOverlapEvenIfRedisClaimed() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 4, 10, 0);
+        when(reservationRepository.findOverlapping(1L, from, from.plusHours(2)))
+                .thenReturn(List.of(Reservation.builder().id(11L).build()));
+
+        assertThatThrownBy(() -> reservationService.extendTime(10L, 2))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(reservationSlotClaimRepository, never()).saveAllAndFlush(anyList());
+        verify(reservationSlotIndex).invalidate(1L, "2024", "3", "4");
+        verify(reservationRepository, never()).save(any());
+        verify(alertScheduler, never()).schedule(any());
+    }
+
+    @Test
+    void extendSavedWhenDbHasNoOverlap() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 4, 10, 0);
+        when(reservationRepository.findOverlapping(1L, from, from.plusHours(2))).thenReturn(List.of());
+
+        Reservation extended = reservationService.extendTime(10L, 2);
+
+        assertThat(extended.getEnd_time()).isEqualTo(12);
+        assertThat(extended.getEndAt()).isEqualTo(from.plusHours(2));
+        verify(reservationSlotIndex, never()).invalidate(any(), any(), any(), any());
+        verify(reservationSlotClaimRepository).saveAllAndFlush(argThat((List<ReservationSlotClaim> claims) ->
+                claims.stream().map(ReservationSlotClaim::getSlotHour).toList().equals(List.of(10, 11))));
+        verify(alertScheduler).schedule(extended);
+    }
+
+    @Test
+    void extendRejectedWhenSlotClaimCollides() {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 4, 10, 0);
+        when(reservationRepository.findOverlapping(1L, from, from.plusHours(2))).thenReturn(List.of());
+        // Redis 키가 유실되어 점유가 빠졌지만 다른 예약이 같은 시간의 점유 행을 먼저 넣은 상황
+        when(reservationSlotClaimRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_slot_claim_facility_date_hour"));
+
+        assertThatThrownBy(() -> reservationService.extendTime(10L, 2))
+                .isInstanceOf(RuntimeException.class)
+                .isNotInstanceOf(DataIntegrityViolationException.class);
+
+        verify(reservationSlotIndex).invalidate(1L, "2024", "3", "4");
+        verify(reservationRepository, never()).save(any());
+        verify(alertScheduler, never()).schedule(any());
+    }
+
+    @Test
+    void returnDeletesSlotClaims() {
+        reservationService.returnReservation(reservation);
+
+        verify(reservationSlotClaimRepository).deleteByReservationId(10L);
+        verify(reservationSlotIndex).release(1L, "2024", "3", "4", 9, 10);
+    }
+
+    @Test
+    void returnReleasesRedisSlotsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reservationService.returnReservation(reservation);
+
+            verify(reservationSlotIndex, never()).release(any(), any(), any(), any(), anyInt(), anyInt());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(reservationSlotIndex).release(1L, "2024", "3", "4", 9, 10);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}